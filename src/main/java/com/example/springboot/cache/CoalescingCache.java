@@ -0,0 +1,241 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.config.ReplicaRoutingDataSource;
+import com.example.springboot.timing.RequestTimings;
+import com.example.springboot.timing.Stage;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Spring {@link org.springframework.cache.Cache} over Caffeine that protects the loader on
+ * {@code @Cacheable(sync = true)} lookups:
+ * <ul>
+ *     <li>single-flight: concurrent misses for a key share one in-flight load;</li>
+ *     <li>stale-while-revalidate: entries older than {@code ttl} (but within the stale window)
+ *     are served while one background refresh runs;</li>
+ *     <li>probabilistic early refresh (XFetch): entries are refreshed slightly before expiry with
+ *     a probability that grows with age and load cost, so hot keys don't all expire together.</li>
+ * </ul>
+ * Values only enter the cache through a load that started after the last eviction: every
+ * {@link #evict}/{@link #clear} bumps a generation, and a load whose generation moved on is
+ * returned to its caller but not stored. Only {@link #get(Object, Callable)} and {@link #loadAll}
+ * coalesce and store values; an unconditional {@link #put} just evicts the key.
+ */
+@Slf4j
+public class CoalescingCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<Object, Entry> store;
+    private final ConcurrentMap<Object, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Executor refreshExecutor;
+    private final long ttlNanos;
+    private final double earlyRefreshBeta;
+
+    private final Counter leaderLoads;
+    private final Counter coalescedLoads;
+    private final Counter staleServed;
+    private final Counter earlyRefreshes;
+
+    public CoalescingCache(String name, Cache<Object, Entry> store, Executor refreshExecutor,
+                           long ttlNanos, double earlyRefreshBeta, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.store = store;
+        this.refreshExecutor = refreshExecutor;
+        this.ttlNanos = ttlNanos;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.leaderLoads = counter(meterRegistry, "leader");
+        this.coalescedLoads = counter(meterRegistry, "coalesced");
+        this.staleServed = counter(meterRegistry, "stale");
+        this.earlyRefreshes = counter(meterRegistry, "early_refresh");
+        Gauge.builder("cache.loads.in_flight", inFlight, ConcurrentMap::size)
+                .description("Loads currently running for this cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.loads")
+                .description("Cache loads by outcome: leader ran the loader, coalesced joined an in-flight load")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = store.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long start = RequestTimings.start();
+        try {
+            return getOrLoad(key, valueLoader);
+        } finally {
+            RequestTimings.stop(Stage.CACHE, start);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrLoad(Object key, Callable<T> valueLoader) {
+        Entry entry = store.getIfPresent(key);
+        if (entry == null) {
+            return (T) load(key, valueLoader).value();
+        }
+        long age = System.nanoTime() - entry.loadedAt();
+        if (age >= ttlNanos) {
+            staleServed.increment();
+            refreshAsync(key, valueLoader);
+        } else if (shouldRefreshEarly(entry, age)) {
+            earlyRefreshes.increment();
+            refreshAsync(key, valueLoader);
+        }
+        return (T) entry.value();
+    }
+
+    private boolean shouldRefreshEarly(Entry entry, long age) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double jitter = -Math.log(ThreadLocalRandom.current().nextDouble()) * earlyRefreshBeta * entry.loadNanos();
+        return age + jitter >= ttlNanos;
+    }
+
+    private Entry load(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalescedLoads.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        leaderLoads.increment();
+        long startGeneration = generation.get();
+        try {
+            long start = System.nanoTime();
+            Object value = ReplicaRoutingDataSource.cacheFill(valueLoader);
+            long loadedAt = System.nanoTime();
+            Entry entry = new Entry(value, loadedAt, loadedAt - start);
+            storeIfUnchanged(key, entry, startGeneration);
+            mine.complete(entry);
+            return entry;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, valueLoader);
+                } catch (RuntimeException e) {
+                    log.debug("Background refresh of {}::{} failed: {}", name, key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Background refresh of {}::{} skipped, refresh executor saturated", name, key);
+        }
+    }
+
+    /**
+     * Bulk counterpart of {@link #get(Object, Callable)} for keys the caller found missing: one
+     * {@code loader} call (typically a single {@code IN} query) whose results are cached under the
+     * same generation guard. All loaded values are returned whether or not they were stored.
+     */
+    public <K, V> Map<K, V> loadAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        long startGeneration = generation.get();
+        long start = System.nanoTime();
+        Map<K, V> values;
+        try {
+            values = ReplicaRoutingDataSource.cacheFill(() -> loader.apply(keys));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        long loadedAt = System.nanoTime();
+        long loadNanos = (loadedAt - start) / Math.max(1, values.size());
+        values.forEach((key, value) -> storeIfUnchanged(key, new Entry(value, loadedAt, loadNanos), startGeneration));
+        return values;
+    }
+
+    private void storeIfUnchanged(Object key, Entry entry, long startGeneration) {
+        if (entry.value() == null || generation.get() != startGeneration) {
+            return;
+        }
+        store.put(key, entry);
+        if (generation.get() != startGeneration) {
+            // an eviction raced with the put; it must win
+            store.asMap().remove(key, entry);
+        }
+    }
+
+    /**
+     * Degrades to {@link #evict}: the caller's value may have been read before a concurrent eviction
+     * and would then outlive it for the whole TTL, so the key is dropped instead and the next
+     * {@link #get(Object, Callable)} loads it. This keeps {@code @CachePut}, non-sync
+     * {@code @Cacheable} and {@link #putIfAbsent} working (as a miss) on every cache built here.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        evict(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        inFlight.remove(key);
+        store.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        store.invalidateAll();
+    }
+
+    public record Entry(Object value, long loadedAt, long loadNanos) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.config.JacksonConfig;
+import com.example.springboot.timing.RequestTimings;
+import com.example.springboot.timing.Stage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds fully serialized (and, above the compression threshold, pre-gzipped) bodies for the hot
+ * product GETs, so cache hits skip Jackson and the container's on-the-fly compression. Each
+ * negotiated format (JSON, Smile, CBOR) is cached under its own key.
+ * Keys embed the product version (single products) or the catalog version (lists), so entries
+ * written before a change can never be served after it and nothing has to be invalidated; entries
+ * for old versions age out under the weight bound and {@code expire-after-write}.
+ */
+@Slf4j
+@Component
+public class ProductResponseByteCache {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+    private final Cache<String, SerializedResponse> cache;
+    private final int minCompressSize;
+
+    public ProductResponseByteCache(
+            ObjectMapper objectMapper,
+            MappingJackson2SmileHttpMessageConverter smileConverter,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            @Value("${app.response-cache.maximum-weight:64MB}") DataSize maximumWeight,
+            @Value("${app.response-cache.expire-after-write:600s}") Duration expireAfterWrite,
+            @Value("${server.compression.min-response-size:2KB}") DataSize minCompressSize) {
+        this.objectMapper = objectMapper;
+        this.smileMapper = smileConverter.getObjectMapper();
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.minCompressSize = (int) minCompressSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((String key, SerializedResponse value) -> value.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public SerializedResponse get(String key, Supplier<Payload> loader) {
+        return get(key, MediaType.APPLICATION_JSON, loader);
+    }
+
+    public SerializedResponse get(String key, MediaType format, Supplier<Payload> loader) {
+        String formatKey = MediaType.APPLICATION_JSON.equals(format) ? key : key + "|" + format.getSubtype();
+        return cache.get(formatKey, k -> serialize(loader.get(), format));
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(SerializedResponse response, String acceptEncoding,
+                                                   CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(response.contentType())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(response.gzip().length)
+                    .body(response.gzip());
+        }
+        return builder.contentLength(response.identity().length).body(response.identity());
+    }
+
+    /**
+     * Picks the body format from {@code Accept}: Smile or CBOR when the caller asks for it first,
+     * JSON otherwise.
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null) {
+            return MediaType.APPLICATION_JSON;
+        }
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.getQualityValue() == 0) {
+                    continue;
+                }
+                if (JacksonConfig.APPLICATION_SMILE.equalsTypeAndSubtype(type)) {
+                    return JacksonConfig.APPLICATION_SMILE;
+                }
+                if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(type)) {
+                    return MediaType.APPLICATION_CBOR;
+                }
+                if (type.includes(MediaType.APPLICATION_JSON)) {
+                    return MediaType.APPLICATION_JSON;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            log.debug("Ignoring malformed Accept header: {}", accept);
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private SerializedResponse serialize(Payload payload, MediaType format) {
+        long start = RequestTimings.start();
+        try {
+            byte[] identity = mapperFor(format).writeValueAsBytes(payload.body());
+            byte[] gzip = identity.length >= minCompressSize ? gzip(identity) : null;
+            return new SerializedResponse(identity, gzip, format, payload.eTag(), payload.lastModified());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        } finally {
+            RequestTimings.stop(Stage.SERIALIZATION, start);
+        }
+    }
+
+    private ObjectMapper mapperFor(MediaType format) {
+        if (JacksonConfig.APPLICATION_SMILE.equals(format)) {
+            return smileMapper;
+        }
+        return MediaType.APPLICATION_CBOR.equals(format) ? cborMapper : objectMapper;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip") && !parts[0].trim().equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.matches("q=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public record Payload(Object body, String eTag, long lastModified) {
+    }
+
+    public record SerializedResponse(byte[] identity, byte[] gzip, MediaType contentType, String eTag, long lastModified) {
+
+        int weight() {
+            return identity.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.springboot.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency-driven concurrency limit in the spirit of the gradient algorithm: the limit grows while
+ * short-term latency tracks the long-term baseline and shrinks as queueing inflates it. Drops
+ * (errors, timeouts) cut the limit multiplicatively. Callers that cannot acquire a permit are
+ * expected to fail fast instead of waiting.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double shortWindow;
+    private final double longWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double rttTolerance, int shortWindow, int longWindow) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("require 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.shortWindow = shortWindow;
+        this.longWindow = longWindow;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Takes a permit regardless of the limit, for when shedding is switched off but samples are still wanted. */
+    public void acquire() {
+        inFlight.incrementAndGet();
+    }
+
+    /** Releases a permit and feeds the observed round-trip time into the limit. */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtStart);
+    }
+
+    /** Releases a permit for a failed or timed-out call and backs the limit off. */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * DROP_BACKOFF);
+            limit = (int) estimatedLimit;
+        }
+    }
+
+    /** Releases a permit without a sample, e.g. for requests whose latency says nothing about load. */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart) {
+        double rtt = rttNanos;
+        if (longRtt == 0) {
+            shortRtt = rtt;
+            longRtt = rtt;
+            return;
+        }
+        shortRtt += (rtt - shortRtt) / shortWindow;
+        longRtt += (rtt - longRtt) / longWindow;
+
+        // after an overload clears, let the baseline fall back quickly instead of over several minutes
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // an app-limited caller tells us nothing about how much more concurrency the service can take
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.springboot.concurrency;
+
+import com.example.springboot.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Admission control for the API. Each endpoint group has its own adaptive limit; requests over
+ * the limit get an immediate 503 with {@code Retry-After} instead of queueing in Tomcat. Runs
+ * ahead of the security chain so shed requests cost no JWT parsing.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiterRegistry.isEnabled() || endpointGroup(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String group = endpointGroup(request);
+        AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiter(group);
+        if (!limiter.tryAcquire()) {
+            limiterRegistry.recordRejection(group);
+            reject(request, response, group);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // streaming responses outlive this call; their duration is not a latency signal
+                limiter.onIgnore();
+            } else if (dropped) {
+                limiter.onDropped();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String group) throws IOException {
+        log.debug("Shedding {} {} (group {})", request.getMethod(), request.getRequestURI(), group);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, limiterRegistry.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("Server is at capacity, retry later")
+                .path("uri=" + request.getRequestURI())
+                .build());
+    }
+
+    static String endpointGroup(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/v1/auth/")) {
+            return "auth";
+        }
+        if (uri.startsWith("/api/v1/products")) {
+            return "GET".equals(request.getMethod()) ? "products-read" : "products-write";
+        }
+        if (uri.startsWith("/api/v1/catalog")) {
+            return "catalog";
+        }
+        if (uri.startsWith("/api/v1/audit-logs")) {
+            return "audit-logs";
+        }
+        return uri.startsWith("/api/") ? "api" : null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.springboot.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link AdaptiveConcurrencyLimiter} per endpoint group or downstream dependency, created on
+ * first use with the shared {@code app.concurrency.*} settings.
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final Duration retryAfter;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+
+    public ConcurrencyLimiterRegistry(MeterRegistry meterRegistry,
+                                      @Value("${app.concurrency.enabled:true}") boolean enabled,
+                                      @Value("${app.concurrency.retry-after:1s}") Duration retryAfter,
+                                      @Value("${app.concurrency.initial-limit:20}") int initialLimit,
+                                      @Value("${app.concurrency.min-limit:4}") int minLimit,
+                                      @Value("${app.concurrency.max-limit:200}") int maxLimit,
+                                      @Value("${app.concurrency.smoothing:0.2}") double smoothing,
+                                      @Value("${app.concurrency.rtt-tolerance:1.5}") double rttTolerance) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.retryAfter = retryAfter;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+    }
+
+    public AdaptiveConcurrencyLimiter limiter(String name) {
+        return limiters.computeIfAbsent(name, this::create);
+    }
+
+    public void recordRejection(String name) {
+        rejections.computeIfAbsent(name, n -> Counter.builder("concurrency.rejected")
+                        .tag("name", n)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private AdaptiveConcurrencyLimiter create(String name) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                name, initialLimit, minLimit, maxLimit, smoothing, rttTolerance, 10, 600);
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("name", name)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
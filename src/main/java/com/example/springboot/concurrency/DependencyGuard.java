@@ -0,0 +1,88 @@
+package com.example.springboot.concurrency;
+
+import com.example.springboot.exception.ServiceOverloadedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Wraps calls to a downstream dependency (redis, kafka, rabbitmq) in its circuit breaker and
+ * adaptive concurrency limit. An open breaker or exhausted limit fails fast with
+ * {@link ServiceOverloadedException} rather than piling more work onto a struggling dependency.
+ */
+@Component
+@RequiredArgsConstructor
+public class DependencyGuard {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+
+    public <T> T call(String dependency, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency);
+        AdaptiveConcurrencyLimiter limiter = acquire(dependency);
+        long start = System.nanoTime();
+        try {
+            T result = circuitBreaker.executeSupplier(call);
+            limiter.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (CallNotPermittedException e) {
+            limiter.onIgnore();
+            throw circuitOpen(dependency);
+        } catch (RuntimeException e) {
+            limiter.onDropped();
+            throw e;
+        }
+    }
+
+    public void run(String dependency, Runnable call) {
+        call(dependency, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public <T> CompletableFuture<T> callAsync(String dependency, Supplier<CompletableFuture<T>> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency);
+        AdaptiveConcurrencyLimiter limiter = acquire(dependency);
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = circuitBreaker.executeCompletionStage(call::get).toCompletableFuture();
+        } catch (CallNotPermittedException e) {
+            limiter.onIgnore();
+            throw circuitOpen(dependency);
+        } catch (RuntimeException e) {
+            limiter.onDropped();
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            if (error instanceof CallNotPermittedException) {
+                limiter.onIgnore();
+            } else if (error != null) {
+                limiter.onDropped();
+            } else {
+                limiter.onSuccess(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private AdaptiveConcurrencyLimiter acquire(String dependency) {
+        AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiter(dependency);
+        if (!limiterRegistry.isEnabled()) {
+            limiter.acquire();
+        } else if (!limiter.tryAcquire()) {
+            limiterRegistry.recordRejection(dependency);
+            throw new ServiceOverloadedException(dependency + " concurrency limit reached", limiterRegistry.getRetryAfter());
+        }
+        return limiter;
+    }
+
+    private ServiceOverloadedException circuitOpen(String dependency) {
+        return new ServiceOverloadedException(dependency + " is unavailable (circuit open)", limiterRegistry.getRetryAfter());
+    }
+}
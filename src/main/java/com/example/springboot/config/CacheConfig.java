@@ -0,0 +1,58 @@
+package com.example.springboot.config;
+
+import com.example.springboot.cache.CoalescingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor cacheRefreshExecutor(@Value("${app.cache.refresh-threads:2}") int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(256), new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            MeterRegistry meterRegistry,
+            ThreadPoolExecutor cacheRefreshExecutor,
+            @Value("${app.cache.names:product,products}") String[] cacheNames,
+            @Value("${app.cache.maximum-size:500}") long maximumSize,
+            @Value("${app.cache.ttl:600s}") Duration ttl,
+            @Value("${app.cache.stale-while-revalidate:60s}") Duration staleWhileRevalidate,
+            @Value("${app.cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(Arrays.stream(cacheNames)
+                .map(String::trim)
+                .map(name -> {
+                    Cache<Object, CoalescingCache.Entry> store = Caffeine.newBuilder()
+                            .maximumSize(maximumSize)
+                            .expireAfterWrite(ttl.plus(staleWhileRevalidate))
+                            .recordStats()
+                            .build();
+                    CaffeineCacheMetrics.monitor(meterRegistry, store, name);
+                    return new CoalescingCache(name, store, cacheRefreshExecutor, ttl.toNanos(),
+                            earlyRefreshBeta, meterRegistry);
+                })
+                .toList());
+        return cacheManager;
+    }
+}
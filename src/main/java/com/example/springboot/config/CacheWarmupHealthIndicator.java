@@ -0,0 +1,31 @@
+package com.example.springboot.config;
+
+import com.example.springboot.service.ProductCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the readiness group OUT_OF_SERVICE until the product caches have been warmed.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final ProductCacheWarmer productCacheWarmer;
+
+    @Override
+    public Health health() {
+        if (!productCacheWarmer.isComplete()) {
+            return Health.outOfService()
+                    .withDetail("cache", "product")
+                    .withDetail("status", "Warming up")
+                    .build();
+        }
+        return Health.up()
+                .withDetail("cache", "product")
+                .withDetail("warmedProducts", productCacheWarmer.getWarmedProducts())
+                .build();
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.springboot.config;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.internal.core.loadbalancing.DefaultLoadBalancingPolicy;
+import com.datastax.oss.driver.internal.core.session.throttling.ConcurrencyLimitingRequestThrottler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +17,10 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.SimpleUserTypeResolver;
 import org.springframework.data.cassandra.repository.config.EnableCassandraRepositories;
 
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+
 @Configuration
 @EnableCassandraRepositories(basePackages = "com.example.springboot.repository.cassandra")
 public class CassandraConfig extends AbstractCassandraConfiguration {
@@ -30,6 +37,27 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
     @Value("${spring.data.cassandra.port}")
     private int port;
 
+    @Value("${app.cassandra.pool.local-size:2}")
+    private int localPoolSize;
+
+    @Value("${app.cassandra.pool.remote-size:1}")
+    private int remotePoolSize;
+
+    @Value("${app.cassandra.pool.max-requests-per-connection:1024}")
+    private int maxRequestsPerConnection;
+
+    @Value("${app.cassandra.throttler.max-concurrent-requests:512}")
+    private int maxConcurrentRequests;
+
+    @Value("${app.cassandra.throttler.max-queue-size:2048}")
+    private int maxQueueSize;
+
+    @Value("${app.cassandra.request-timeout:2s}")
+    private Duration requestTimeout;
+
+    @Value("${app.cassandra.page-size:100}")
+    private int pageSize;
+
     @Override
     protected String getKeyspaceName() {
         return keyspaceName;
@@ -62,9 +90,49 @@ public class CassandraConfig extends AbstractCassandraConfiguration {
         return cluster;
     }
 
+    /**
+     * Driver settings for the hot audit/write paths: token-aware load balancing,
+     * sized connection pools and a concurrency throttler so bursts queue in the
+     * driver (bounded) instead of piling up on the coordinator.
+     */
+    @Bean
+    public DriverConfigLoader cassandraDriverConfigLoader() {
+        return DriverConfigLoader.programmaticBuilder()
+                .withClass(DefaultDriverOption.LOAD_BALANCING_POLICY_CLASS, DefaultLoadBalancingPolicy.class)
+                .withString(DefaultDriverOption.LOAD_BALANCING_LOCAL_DATACENTER, localDatacenter)
+                .withInt(DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE, localPoolSize)
+                .withInt(DefaultDriverOption.CONNECTION_POOL_REMOTE_SIZE, remotePoolSize)
+                .withInt(DefaultDriverOption.CONNECTION_MAX_REQUESTS, maxRequestsPerConnection)
+                .withClass(DefaultDriverOption.REQUEST_THROTTLER_CLASS, ConcurrencyLimitingRequestThrottler.class)
+                .withInt(DefaultDriverOption.REQUEST_THROTTLER_MAX_CONCURRENT_REQUESTS, maxConcurrentRequests)
+                .withInt(DefaultDriverOption.REQUEST_THROTTLER_MAX_QUEUE_SIZE, maxQueueSize)
+                .withDuration(DefaultDriverOption.REQUEST_TIMEOUT, requestTimeout)
+                .withInt(DefaultDriverOption.REQUEST_PAGE_SIZE, pageSize)
+                .withString(DefaultDriverOption.REQUEST_CONSISTENCY, "LOCAL_QUORUM")
+                .withBoolean(DefaultDriverOption.PREPARE_ON_ALL_NODES, true)
+                .build();
+    }
+
     @Bean
     public CqlSession cqlSession() {
-        return cluster().getObject().connect();
+        return CqlSession.builder()
+                .addContactPoints(Arrays.stream(contactPoints.split(","))
+                        .map(String::trim)
+                        .map(this::toAddress)
+                        .toList())
+                .withLocalDatacenter(localDatacenter)
+                .withKeyspace(keyspaceName)
+                .withConfigLoader(cassandraDriverConfigLoader())
+                .build();
+    }
+
+    private InetSocketAddress toAddress(String contactPoint) {
+        int separator = contactPoint.lastIndexOf(':');
+        if (separator < 0) {
+            return new InetSocketAddress(contactPoint, port);
+        }
+        return new InetSocketAddress(contactPoint.substring(0, separator),
+                Integer.parseInt(contactPoint.substring(separator + 1)));
     }
 
     @Bean
@@ -0,0 +1,144 @@
+package com.example.springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Postgres connection pools. The primary pool serves application traffic and is tuned through
+ * {@code spring.datasource.hikari}; a separate, tiny admin pool serves health probes and
+ * maintenance work so they never queue behind (or starve) request threads. Read-only
+ * transactions are routed to the replicas listed in {@code app.datasource.replicas.urls}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    public static final String ADMIN_DATA_SOURCE = "adminDataSource";
+
+    private final ObjectProvider<ReplicaRoutingDataSource> routingDataSource;
+
+    public DataSourceConfig(ObjectProvider<ReplicaRoutingDataSource> routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls:}") String[] replicaUrls,
+            @Value("${app.datasource.replicas.maximum-pool-size:20}") int replicaPoolSize,
+            @Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag,
+            @Value("${app.datasource.replicas.cache-fill-primary-window:10s}") Duration cacheFillPrimaryWindow) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<String> urls = Arrays.stream(replicaUrls).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .build();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            bindSaturation(meterRegistry, replica);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, cacheFillPrimaryWindow, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean(name = ADMIN_DATA_SOURCE)
+    public HikariDataSource adminDataSource(
+            DataSourceProperties dataSourceProperties,
+            @Value("${app.datasource.admin.maximum-pool-size:2}") int maximumPoolSize,
+            @Value("${app.datasource.admin.connection-timeout:1s}") Duration connectionTimeout) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("admin-pool");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(1);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setValidationTimeout(Math.min(connectionTimeout.toMillis(), 1000));
+        return dataSource;
+    }
+
+    /**
+     * Saturation gauges on top of the standard {@code hikaricp.connections.*} meters that Spring Boot
+     * already binds: utilisation (active / max) and threads currently waiting for a connection.
+     */
+    @Bean
+    public MeterBinder dataSourcePoolSaturationMetrics(ObjectProvider<HikariDataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> bindSaturation(registry, dataSource));
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval:5s}")
+    public void refreshReplicaLag() {
+        routingDataSource.getIfAvailable().refreshReplicaLag();
+    }
+
+    private static void bindSaturation(MeterRegistry registry, HikariDataSource dataSource) {
+        String pool = dataSource.getPoolName();
+        Gauge.builder("hikaricp.connections.saturation", dataSource, DataSourceConfig::saturation)
+                .description("Fraction of the pool's maximum size currently checked out")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("hikaricp.connections.waiting", dataSource, ds -> {
+                    HikariPoolMXBean mxBean = ds.getHikariPoolMXBean();
+                    return mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0;
+                })
+                .description("Threads blocked waiting for a connection from the pool")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean mxBean = dataSource.getHikariPoolMXBean();
+        if (mxBean == null || dataSource.getMaximumPoolSize() <= 0) {
+            return 0.0;
+        }
+        return (double) mxBean.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.springboot.config;
+
+import com.example.springboot.dto.records.RecordDtoModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * Replaces reflective getter/setter calls with generated lambdas. Spring Boot registers
+     * {@link Module} beans on the shared ObjectMapper. Blackbird rather than Afterburner, whose
+     * class-injection tricks are restricted on modern JDKs.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /** Pre-resolved (de)serializers for the record DTOs. */
+    @Bean
+    public Module recordDtoModule() {
+        return new RecordDtoModule();
+    }
+
+    /**
+     * Binary formats for internal callers, negotiated via {@code Accept}. Built from Boot's builder
+     * so they share the JSON mapper's modules and settings.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
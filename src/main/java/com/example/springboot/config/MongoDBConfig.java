@@ -13,6 +13,7 @@ import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
 
 import java.time.ZoneId;
 import java.util.Arrays;
@@ -20,6 +21,7 @@ import java.util.TimeZone;
 
 @Configuration
 @EnableMongoRepositories(basePackages = "com.example.springboot.repository.mongo")
+@EnableReactiveMongoRepositories(basePackages = "com.example.springboot.repository.mongo")
 public class MongoDBConfig extends AbstractMongoClientConfiguration {
 
     @Value("${spring.data.mongodb.uri}")
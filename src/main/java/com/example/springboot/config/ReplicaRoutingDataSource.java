@@ -0,0 +1,187 @@
+package com.example.springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica (round-robin) and everything else to the primary.
+ * Replicas start unusable; those whose replay lag exceeds {@code maxLag}, or that fail the lag
+ * probe, are skipped until the next probe succeeds. If none are usable, reads fall back to the
+ * primary.
+ * <p>
+ * Reads that fill a cache ({@link #cacheFill}) stay on the primary for {@code cacheFillPrimaryWindow}
+ * after this instance last opened a read-write transaction: a replica within {@code maxLag} may
+ * not have replayed that write yet, and its answer would re-cache the row the write just evicted
+ * for the whole cache TTL.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is fetched after the transaction's read-only flag has been bound.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final String LAG_QUERY = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private static final ThreadLocal<Boolean> CACHE_FILL = new ThreadLocal<>();
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final long cacheFillPrimaryWindowNanos;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Counter primaryRouteCounter;
+    private final Counter fallbackCounter;
+    private final Counter cacheFillPinnedCounter;
+    private volatile long lastWriteNanos;
+    private volatile boolean written;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaDataSources,
+                                    Duration maxLag, Duration cacheFillPrimaryWindow, MeterRegistry meterRegistry) {
+        this.maxLag = maxLag;
+        this.cacheFillPrimaryWindowNanos = cacheFillPrimaryWindow.toNanos();
+        this.replicas = replicaDataSources.stream()
+                .map(dataSource -> new Replica(dataSource, meterRegistry))
+                .toList();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.primaryRouteCounter = Counter.builder("datasource.route")
+                .description("Connections routed per target")
+                .tag("target", PRIMARY)
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("datasource.route.fallback")
+                .description("Read-only transactions sent to the primary because no replica was usable")
+                .register(meterRegistry);
+        this.cacheFillPinnedCounter = Counter.builder("datasource.route.cache_fill_pinned")
+                .description("Cache-filling reads kept on the primary because of a recent write")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code read} as a cache fill: its read-only transactions avoid replicas shortly after a
+     * write on this instance.
+     */
+    public static <T> T cacheFill(Callable<T> read) throws Exception {
+        if (CACHE_FILL.get() != null) {
+            return read.call();
+        }
+        CACHE_FILL.set(Boolean.TRUE);
+        try {
+            return read.call();
+        } finally {
+            CACHE_FILL.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!replicas.isEmpty()) {
+                lastWriteNanos = System.nanoTime();
+                written = true;
+            }
+            primaryRouteCounter.increment();
+            return PRIMARY;
+        }
+        if (replicas.isEmpty()) {
+            primaryRouteCounter.increment();
+            return PRIMARY;
+        }
+        if (CACHE_FILL.get() != null && written && System.nanoTime() - lastWriteNanos < cacheFillPrimaryWindowNanos) {
+            cacheFillPinnedCounter.increment();
+            primaryRouteCounter.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isUsable()) {
+                replica.getRouteCounter().increment();
+                return replica.getName();
+            }
+        }
+        fallbackCounter.increment();
+        primaryRouteCounter.increment();
+        return PRIMARY;
+    }
+
+    public void refreshReplicaLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                long lagMillis = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+                replica.update(lagMillis, lagMillis <= maxLag.toMillis());
+            } catch (Exception e) {
+                log.warn("Replica {} lag probe failed: {}", replica.getName(), e.getMessage());
+                replica.update(-1, false);
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    @Getter
+    public static class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final Counter routeCounter;
+        private volatile long lagMillis = -1;
+        private volatile boolean usable;
+
+        Replica(HikariDataSource dataSource, MeterRegistry meterRegistry) {
+            this.name = dataSource.getPoolName();
+            this.dataSource = dataSource;
+            this.routeCounter = Counter.builder("datasource.route")
+                    .description("Connections routed per target")
+                    .tag("target", name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", this, Replica::getLagMillis)
+                    .description("Replication lag observed by the last probe, -1 if the probe failed")
+                    .baseUnit("milliseconds")
+                    .tag("target", name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.usable", this, replica -> replica.isUsable() ? 1 : 0)
+                    .tag("target", name)
+                    .register(meterRegistry);
+        }
+
+        void update(long lagMillis, boolean usable) {
+            this.lagMillis = lagMillis;
+            this.usable = usable;
+        }
+    }
+}
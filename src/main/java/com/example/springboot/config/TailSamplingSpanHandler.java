@@ -0,0 +1,165 @@
+package com.example.springboot.config;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Local tail-based retention for traces the head sampler skipped. Such spans are only recorded
+ * locally and held in a bounded buffer keyed by local root; when the root span finishes the whole
+ * trace is handed to the exporting handlers if it was slow or errored, and dropped otherwise.
+ * Head-sampled spans pass straight through.
+ */
+@Slf4j
+public class TailSamplingSpanHandler extends SpanHandler {
+
+    private final ObjectProvider<SpanHandler> spanHandlers;
+    private final long slowThresholdMicros;
+    private final int maxBufferedSpans;
+    private final long maxTraceAgeNanos;
+
+    private final Map<Long, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final Counter kept;
+    private final Counter discarded;
+    private final Counter overflow;
+    private volatile List<SpanHandler> exporters;
+
+    public TailSamplingSpanHandler(ObjectProvider<SpanHandler> spanHandlers, MeterRegistry meterRegistry,
+                                   Duration slowThreshold, int maxBufferedSpans, Duration maxTraceAge) {
+        this.spanHandlers = spanHandlers;
+        this.slowThresholdMicros = slowThreshold.toNanos() / 1000;
+        this.maxBufferedSpans = maxBufferedSpans;
+        this.maxTraceAgeNanos = maxTraceAge.toNanos();
+        this.kept = Counter.builder("tracing.tail.traces").tag("decision", "kept").register(meterRegistry);
+        this.discarded = Counter.builder("tracing.tail.traces").tag("decision", "discarded").register(meterRegistry);
+        this.overflow = Counter.builder("tracing.tail.overflow").register(meterRegistry);
+        Gauge.builder("tracing.tail.buffered", buffered, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause != Cause.FINISHED || Boolean.TRUE.equals(context.sampled())) {
+            return true;
+        }
+        if (context.isLocalRoot()) {
+            finishTrace(context, span);
+            return false;
+        }
+        if (buffered.incrementAndGet() > maxBufferedSpans) {
+            buffered.decrementAndGet();
+            overflow.increment();
+            return false;
+        }
+        pending.computeIfAbsent(context.localRootId(), id -> new PendingTrace(System.nanoTime())).add(context, span);
+        return false;
+    }
+
+    private void finishTrace(TraceContext rootContext, MutableSpan root) {
+        PendingTrace trace = pending.remove(rootContext.localRootId());
+        if (trace != null) {
+            buffered.addAndGet(-trace.size());
+        }
+        boolean slow = root.finishTimestamp() - root.startTimestamp() >= slowThresholdMicros;
+        if (!slow && !isError(root) && (trace == null || !trace.errored)) {
+            discarded.increment();
+            return;
+        }
+        kept.increment();
+        if (trace != null) {
+            trace.forEach(this::export);
+        }
+        export(rootContext, root);
+    }
+
+    private void export(TraceContext context, MutableSpan span) {
+        // exporters skip unsampled contexts, so hand them a sampled copy of the retained span's context
+        TraceContext sampled = context.toBuilder().sampled(true).build();
+        for (SpanHandler handler : exporters()) {
+            if (!handler.end(sampled, span, Cause.FINISHED)) {
+                return;
+            }
+        }
+    }
+
+    private List<SpanHandler> exporters() {
+        List<SpanHandler> result = exporters;
+        if (result == null) {
+            result = spanHandlers.orderedStream().filter(handler -> handler != this).toList();
+            exporters = result;
+        }
+        return result;
+    }
+
+    /** Drops buffers whose local root never finished in this process, e.g. abandoned async work. */
+    @Scheduled(fixedDelayString = "${app.tracing.tail.sweep-interval:10s}")
+    public void sweep() {
+        long cutoff = System.nanoTime() - maxTraceAgeNanos;
+        pending.entrySet().removeIf(entry -> {
+            if (entry.getValue().createdNanos - cutoff < 0) {
+                buffered.addAndGet(-entry.getValue().size());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    static boolean isError(MutableSpan span) {
+        if (span.error() != null || span.tag("error") != null || "SERVER_ERROR".equals(span.tag("outcome"))) {
+            return true;
+        }
+        String status = span.tag("http.status_code");
+        if (status == null) {
+            status = span.tag("status");
+        }
+        return status != null && status.startsWith("5");
+    }
+
+    @Override
+    public String toString() {
+        return "TailSamplingSpanHandler";
+    }
+
+    private static final class PendingTrace {
+        private final long createdNanos;
+        private final List<TraceContext> contexts = new ArrayList<>(8);
+        private final List<MutableSpan> spans = new ArrayList<>(8);
+        private volatile boolean errored;
+
+        PendingTrace(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+
+        synchronized void add(TraceContext context, MutableSpan span) {
+            contexts.add(context);
+            spans.add(span);
+            if (isError(span)) {
+                errored = true;
+            }
+        }
+
+        synchronized int size() {
+            return spans.size();
+        }
+
+        synchronized void forEach(BiConsumer<TraceContext, MutableSpan> action) {
+            for (int i = 0; i < spans.size(); i++) {
+                action.accept(contexts.get(i), spans.get(i));
+            }
+        }
+    }
+}
@@ -1,38 +1,41 @@
 package com.example.springboot.config;
 
-import io.micrometer.tracing.Tracer;
+import brave.TracingCustomizer;
+import brave.handler.SpanHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.slf4j.MDC;
-import jakarta.servlet.Filter;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
-import jakarta.servlet.http.HttpServletRequest;
-import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
+import java.time.Duration;
+
+/**
+ * Head sampling comes from {@code management.tracing.sampling.probability}; the incoming
+ * {@code X-Trace-Id} header is carried as baggage and correlated into the MDC by Micrometer
+ * (see {@code management.tracing.baggage}). With {@code app.tracing.tail.enabled} the unsampled
+ * remainder is recorded locally and kept only when slow or failed.
+ */
 @Configuration
+@ConditionalOnProperty(value = "app.tracing.tail.enabled", havingValue = "true")
 public class TracingConfig {
 
     @Bean
-    public Filter traceIdFilter() {
-        return new Filter() {
-            @Override
-            public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-                    throws IOException, ServletException {
-                try {
-                    if (request instanceof HttpServletRequest) {
-                        String traceId = ((HttpServletRequest) request).getHeader("X-Trace-Id");
-                        if (traceId != null) {
-                            MDC.put("traceId", traceId);
-                        }
-                    }
-                    chain.doFilter(request, response);
-                } finally {
-                    MDC.clear();
-                }
-            }
-        };
+    public TracingCustomizer alwaysSampleLocalTracingCustomizer() {
+        return builder -> builder.alwaysSampleLocal();
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public TailSamplingSpanHandler tailSamplingSpanHandler(
+            ObjectProvider<SpanHandler> spanHandlers,
+            MeterRegistry meterRegistry,
+            @Value("${app.tracing.tail.slow-threshold:500ms}") Duration slowThreshold,
+            @Value("${app.tracing.tail.max-buffered-spans:10000}") int maxBufferedSpans,
+            @Value("${app.tracing.tail.max-trace-age:30s}") Duration maxTraceAge) {
+        return new TailSamplingSpanHandler(spanHandlers, meterRegistry, slowThreshold, maxBufferedSpans, maxTraceAge);
     }
-} 
\ No newline at end of file
+}
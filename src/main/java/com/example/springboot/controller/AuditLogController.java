@@ -0,0 +1,46 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.dto.ApiResponse;
+import com.example.springboot.dto.AuditLogPageResponse;
+import com.example.springboot.service.AuditLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+@Tag(name = "Audit Log", description = "Audit history APIs")
+@RestController
+@RequestMapping("/api/v1/audit-logs")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    @Operation(
+        summary = "Get audit history for a user",
+        description = "Returns one page of a user's audit events for a single UTC day, newest first"
+    )
+    @GetMapping("/users/{userId}")
+    public CompletableFuture<ResponseEntity<ApiResponse<AuditLogPageResponse>>> getUserHistory(
+        @Parameter(description = "User identifier", required = true)
+        @PathVariable String userId,
+        @Parameter(description = "UTC day bucket, defaults to the day of 'since' or today", example = "2026-10-18")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+        @Parameter(description = "Only return events at or after this instant", example = "2026-10-18T09:00:00Z")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+        @Parameter(description = "Page token returned by the previous page")
+        @RequestParam(required = false) String pageToken,
+        @Parameter(description = "Page size", example = "50")
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        return auditLogService.getUserHistory(userId, day, since, pageToken, size)
+                .thenApply(page -> ResponseEntity.ok(ApiResponse.success(page, "Audit history retrieved successfully")));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.dto.ApiResponse;
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.service.ProductCatalogProjector;
+import com.example.springboot.service.ProductCatalogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Tag(name = "Catalog", description = "Read-optimized product catalog APIs backed by MongoDB")
+@RestController
+@RequestMapping("/api/v1/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final ProductCatalogService productCatalogService;
+    private final ProductCatalogProjector productCatalogProjector;
+
+    @Operation(
+        summary = "Get catalog page",
+        description = "Retrieves a page of active products from the catalog read model, newest first"
+    )
+    @GetMapping("/products")
+    public Mono<ApiResponse<List<ProductResponse>>> getProducts(
+        @Parameter(description = "Page number (0-based)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "Optional name prefix filter", example = "iPhone")
+        @RequestParam(required = false) String namePrefix
+    ) {
+        Flux<ProductResponse> products = namePrefix == null || namePrefix.isBlank()
+                ? productCatalogService.getPage(page, size)
+                : productCatalogService.searchByNamePrefix(namePrefix, page, size);
+        return products.collectList()
+                .map(list -> ApiResponse.success(list, "Products retrieved successfully"));
+    }
+
+    @Operation(
+        summary = "Stream catalog",
+        description = "Streams all active products as newline-delimited JSON with backpressure"
+    )
+    @GetMapping(value = "/products/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductResponse> streamProducts(
+        @Parameter(description = "Minimum price", example = "100")
+        @RequestParam(required = false) BigDecimal minPrice,
+        @Parameter(description = "Maximum price", example = "1000")
+        @RequestParam(required = false) BigDecimal maxPrice,
+        @Parameter(description = "ISO 4217 currency of the price band; defaults to the catalog currency", example = "USD")
+        @RequestParam(required = false) String currency
+    ) {
+        return productCatalogService.streamProducts(minPrice, maxPrice, currency);
+    }
+
+    @Operation(
+        summary = "Get catalog product by ID",
+        description = "Retrieves a single product from the catalog read model"
+    )
+    @GetMapping("/products/{id}")
+    public Mono<ApiResponse<ProductResponse>> getProduct(
+        @Parameter(description = "ID of the product to retrieve", required = true)
+        @PathVariable Long id
+    ) {
+        return productCatalogService.getProduct(id)
+                .map(product -> ApiResponse.success(product, "Product retrieved successfully"));
+    }
+
+    @Operation(
+        summary = "Rebuild catalog",
+        description = "Re-projects every active product from the transactional database into the read model"
+    )
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ApiResponse<Long>> rebuild() {
+        return productCatalogProjector.rebuild()
+                .map(count -> ApiResponse.success(count, "Catalog rebuilt successfully"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.dto.ApiResponse;
+import com.example.springboot.dto.PriceHistoryPageResponse;
+import com.example.springboot.entity.cassandra.PriceRollup;
+import com.example.springboot.service.PriceHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Tag(name = "Price History", description = "Product price history and rollup APIs")
+@RestController
+@RequestMapping("/api/v1/products/{id}/prices")
+@RequiredArgsConstructor
+public class PriceHistoryController {
+
+    private final PriceHistoryService priceHistoryService;
+
+    @Operation(
+        summary = "Get price changes for a product",
+        description = "Returns one page of a product's price changes for a single UTC day, newest first"
+    )
+    @GetMapping
+    public CompletableFuture<ResponseEntity<ApiResponse<PriceHistoryPageResponse>>> getPriceHistory(
+        @Parameter(description = "ID of the product", required = true)
+        @PathVariable Long id,
+        @Parameter(description = "UTC day bucket, defaults to the day of 'since' or today", example = "2026-10-18")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day,
+        @Parameter(description = "Only return changes at or after this instant", example = "2026-10-18T09:00:00Z")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+        @Parameter(description = "Page token returned by the previous page")
+        @RequestParam(required = false) String pageToken,
+        @Parameter(description = "Page size", example = "50")
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        return priceHistoryService.getHistory(id, day, since, pageToken, size)
+                .thenApply(page -> ResponseEntity.ok(ApiResponse.success(page, "Price history retrieved successfully")));
+    }
+
+    @Operation(
+        summary = "Get price rollups for a product",
+        description = "Returns min/max/avg of the price changes per hour or day for periods starting in [from, to), "
+            + "newest first. avg is the mean of the prices set in the period, not time-weighted; periods without "
+            + "a price change have no entry"
+    )
+    @GetMapping("/rollups")
+    public CompletableFuture<ResponseEntity<ApiResponse<List<PriceRollup>>>> getPriceRollups(
+        @Parameter(description = "ID of the product", required = true)
+        @PathVariable Long id,
+        @Parameter(description = "Rollup resolution", example = "DAY")
+        @RequestParam(defaultValue = "DAY") PriceRollup.Resolution resolution,
+        @Parameter(description = "Start of the range (inclusive)", example = "2026-10-01T00:00:00Z", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+        @Parameter(description = "End of the range (exclusive)", example = "2026-10-18T00:00:00Z", required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        return priceHistoryService.getRollups(id, resolution, from, to)
+                .thenApply(rollups -> ResponseEntity.ok(ApiResponse.success(rollups, "Price rollups retrieved successfully")));
+    }
+}
@@ -1,8 +1,21 @@
 package com.example.springboot.controller;
 
+import com.example.springboot.cache.ProductResponseByteCache;
+import com.example.springboot.cache.ProductResponseByteCache.Payload;
+import com.example.springboot.cache.ProductResponseByteCache.SerializedResponse;
 import com.example.springboot.dto.ApiResponse;
-import com.example.springboot.dto.ProductRequest;
+import com.example.springboot.dto.ProductBatchRequest;
+import com.example.springboot.dto.PageResponse;
+import com.example.springboot.dto.ProductFieldSet;
+import com.example.springboot.dto.ProductPatchRequest;
 import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.dto.records.ApiResponseRecord;
+import com.example.springboot.dto.records.ProductRequestRecord;
+import com.example.springboot.dto.records.ProductResponseRecord;
+import com.example.springboot.service.CatalogVersionTracker;
+import com.example.springboot.service.CatalogVersionTracker.CatalogVersion;
+import com.example.springboot.service.CatalogVersionTracker.ProductValidator;
+import com.example.springboot.service.HotProductTracker;
 import com.example.springboot.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,14 +25,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @Tag(name = "Product", description = "Product management APIs")
@@ -28,6 +46,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final CatalogVersionTracker catalogVersionTracker;
+    private final ProductResponseByteCache responseByteCache;
+    private final HotProductTracker hotProductTracker;
+
+    @Value("${app.http-cache.list-max-age:5s}")
+    private Duration listMaxAge = Duration.ofSeconds(5);
+
+    @Value("${app.http-cache.product-max-age:60s}")
+    private Duration productMaxAge = Duration.ofSeconds(60);
+
+    @Value("${app.http-cache.shared:false}")
+    private boolean sharedCaches;
 
     @Operation(
         summary = "Get all products",
@@ -38,12 +68,76 @@ public class ProductController {
             responseCode = "200",
             description = "Successfully retrieved all products",
             content = @Content(schema = @Schema(implementation = ProductResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Catalog unchanged since the supplied validator",
+            content = @Content
         )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProductResponse>>> getAllProducts() {
-        List<ProductResponse> products = productService.getAllProducts();
-        return ResponseEntity.ok(ApiResponse.success(products, "Products retrieved successfully"));
+    public ResponseEntity<byte[]> getAllProducts(
+        @Parameter(description = "Comma-separated fields to return; only those columns are selected", example = "id,name,price")
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest
+    ) {
+        ProductFieldSet fieldSet = fields != null ? ProductFieldSet.parse(fields) : null;
+        CacheControl cacheControl = cacheControl(listMaxAge);
+        CatalogVersion catalogVersion = catalogVersionTracker.catalogVersion();
+        String eTag = catalogVersion.eTag();
+        long lastModified = catalogVersion.lastModified();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        String key = fieldSet == null ? "products:" + eTag : "products:" + eTag + ":" + fieldSet.cacheKey();
+        MediaType format = ProductResponseByteCache.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        SerializedResponse body = responseByteCache.get(key, format, () -> new Payload(
+                ApiResponse.success(fieldSet == null ? productService.getAllProducts() : productService.getAllProducts(fieldSet),
+                        "Products retrieved successfully"),
+                eTag, lastModified));
+        return responseByteCache.toResponseEntity(body, webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), cacheControl);
+    }
+
+    @Operation(
+        summary = "Get products by IDs",
+        description = "Retrieves several products in one call; cache hits are served directly and misses are loaded with a single query"
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Products found, in the requested order",
+            content = @Content(schema = @Schema(implementation = ProductResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "Too many ids requested",
+            content = @Content
+        )
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponseRecord<List<ProductResponseRecord>>> getProductsByIds(
+        @Parameter(description = "Comma-separated product IDs", example = "3,1,2", required = true)
+        @RequestParam List<Long> ids
+    ) {
+        ids.forEach(hotProductTracker::recordAccess);
+        List<ProductResponse> products = productService.getProductsByIds(ids);
+        return ResponseEntity.ok(ApiResponseRecord.success(ProductResponseRecord.fromAll(products),
+                "Products retrieved successfully"));
+    }
+
+    @Operation(
+        summary = "Get products by IDs (POST)",
+        description = "Same as GET with ids, for id lists too long for a query string"
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponseRecord<List<ProductResponseRecord>>> getProductsByIdsBatch(
+        @Parameter(description = "Product IDs to fetch", required = true)
+        @Valid @RequestBody ProductBatchRequest request
+    ) {
+        request.getIds().forEach(hotProductTracker::recordAccess);
+        List<ProductResponse> products = productService.getProductsByIds(request.getIds());
+        return ResponseEntity.ok(ApiResponseRecord.success(ProductResponseRecord.fromAll(products),
+                "Products retrieved successfully"));
     }
 
     @Operation(
@@ -57,7 +151,7 @@ public class ProductController {
         )
     })
     @GetMapping("/paginated")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getProductsPaginated(
+    public ResponseEntity<ApiResponse<PageResponse<?>>> getProductsPaginated(
         @Parameter(description = "Page number (0-based)", example = "0")
         @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "Page size", example = "10")
@@ -65,25 +159,21 @@ public class ProductController {
         @Parameter(description = "Sort field", example = "name")
         @RequestParam(defaultValue = "id") String sortBy,
         @Parameter(description = "Sort direction", example = "ASC")
-        @RequestParam(defaultValue = "ASC") String sortDir
+        @RequestParam(defaultValue = "ASC") String sortDir,
+        @Parameter(description = "Comma-separated fields to return; only those columns are selected", example = "id,name,price")
+        @RequestParam(required = false) String fields
     ) {
+        // price is an embedded amount + currency; order by the integer amount only
+        String sortProperty = "price".equals(sortBy) ? "price.amountMinor" : sortBy;
         Sort sort = sortDir.equalsIgnoreCase("DESC") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort.by(sortProperty).descending() : Sort.by(sortProperty).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<ProductResponse> products = productService.getAllProductsPaginated(pageable);
+        PageResponse<?> products = fields == null
+                ? PageResponse.of(productService.getAllProductsPaginated(pageable))
+                : PageResponse.of(productService.getAllProductsPaginated(pageable, ProductFieldSet.parse(fields)));
         
-        ApiResponse<Page<ProductResponse>> response = ApiResponse.<Page<ProductResponse>>builder()
-                .status("success")
-                .message("Products retrieved successfully")
-                .data(products)
-                .timestamp(java.time.LocalDateTime.now())
-                .totalCount(products.getTotalElements())
-                .pageNumber(products.getNumber())
-                .pageSize(products.getSize())
-                .build();
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(ApiResponse.page(products, "Products retrieved successfully"));
     }
 
     @Operation(
@@ -96,6 +186,11 @@ public class ProductController {
             description = "Successfully retrieved the product",
             content = @Content(schema = @Schema(implementation = ProductResponse.class))
         ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "Product unchanged since the supplied validator",
+            content = @Content
+        ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "404",
             description = "Product not found",
@@ -103,12 +198,33 @@ public class ProductController {
         )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(
+    public ResponseEntity<byte[]> getProductById(
         @Parameter(description = "ID of the product to retrieve", required = true)
-        @PathVariable Long id
+        @PathVariable Long id,
+        @Parameter(description = "Comma-separated fields to return", example = "id,name,price")
+        @RequestParam(required = false) String fields,
+        WebRequest webRequest
     ) {
-        ProductResponse product = productService.getProductById(id);
-        return ResponseEntity.ok(ApiResponse.success(product, "Product retrieved successfully"));
+        ProductFieldSet fieldSet = fields != null ? ProductFieldSet.parse(fields) : null;
+        hotProductTracker.recordAccess(id);
+        CacheControl cacheControl = cacheControl(productMaxAge);
+        // answered from the per-product validator, so other products' writes don't force a reload
+        ProductValidator validator = catalogVersionTracker.productValidator(id, productService::getProductById);
+        if (webRequest.checkNotModified(validator.eTag(), validator.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        String key = "product:" + id + ":v" + validator.version()
+                + (fieldSet == null ? "" : ":" + fieldSet.cacheKey());
+        MediaType format = ProductResponseByteCache.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        SerializedResponse body = responseByteCache.get(key, format, () -> {
+            // single rows come from the product cache, so trimming happens after the lookup
+            ProductResponse product = productService.getProductById(id);
+            return new Payload(
+                    ApiResponse.success(fieldSet == null ? product : fieldSet.select(product), "Product retrieved successfully"),
+                    CatalogVersionTracker.productETag(product.getId(), product.getVersion()),
+                    CatalogVersionTracker.toEpochMillis(product.getUpdatedAt()));
+        });
+        return responseByteCache.toResponseEntity(body, webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), cacheControl);
     }
 
     @Operation(
@@ -130,16 +246,16 @@ public class ProductController {
     @PostMapping
     public ResponseEntity<ApiResponse<ProductResponse>> createProduct(
         @Parameter(description = "Product details to create", required = true)
-        @Valid @RequestBody ProductRequest productRequest
+        @Valid @RequestBody ProductRequestRecord productRequest
     ) {
-        ProductResponse product = productService.createProduct(productRequest);
+        ProductResponse product = productService.createProduct(productRequest.toRequest());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(product, "Product created successfully"));
     }
 
     @Operation(
         summary = "Update product",
-        description = "Updates an existing product by ID and invalidates Redis cache"
+        description = "Updates an existing product by ID and invalidates Redis cache. With If-Match, the update only applies if the product is still at that version"
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -156,17 +272,73 @@ public class ProductController {
             responseCode = "400",
             description = "Invalid product data provided",
             content = @Content
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "409",
+            description = "Product was modified concurrently",
+            content = @Content
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412",
+            description = "Product no longer matches If-Match",
+            content = @Content
         )
     })
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> updateProduct(
         @Parameter(description = "ID of the product to update", required = true)
         @PathVariable Long id,
+        @Parameter(description = "ETag of the version being replaced", example = "\"product-1-v3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Parameter(description = "Updated product details", required = true)
-        @Valid @RequestBody ProductRequest productRequest
+        @Valid @RequestBody ProductRequestRecord productRequest
     ) {
-        ProductResponse product = productService.updateProduct(id, productRequest);
-        return ResponseEntity.ok(ApiResponse.success(product, "Product updated successfully"));
+        ProductResponse product = productService.updateProduct(id, productRequest.toRequest(),
+                CatalogVersionTracker.parseIfMatch(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(CatalogVersionTracker.productETag(product.getId(), product.getVersion()))
+                .body(ApiResponse.success(product, "Product updated successfully"));
+    }
+
+    @Operation(
+        summary = "Partially update product",
+        description = "Changes only the given fields. A price-only patch with If-Match is applied as a single conditional UPDATE"
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "Product updated successfully",
+            content = @Content(schema = @Schema(implementation = ProductResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "Product not found",
+            content = @Content
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "409",
+            description = "Product was modified concurrently",
+            content = @Content
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412",
+            description = "Product no longer matches If-Match",
+            content = @Content
+        )
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<ProductResponse>> patchProduct(
+        @Parameter(description = "ID of the product to update", required = true)
+        @PathVariable Long id,
+        @Parameter(description = "ETag of the version being changed", example = "\"product-1-v3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Parameter(description = "Fields to change", required = true)
+        @Valid @RequestBody ProductPatchRequest patch
+    ) {
+        ProductResponse product = productService.patchProduct(id, patch, CatalogVersionTracker.parseIfMatch(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(CatalogVersionTracker.productETag(product.getId(), product.getVersion()))
+                .body(ApiResponse.success(product, "Product updated successfully"));
     }
 
     @Operation(
@@ -192,4 +364,9 @@ public class ProductController {
         productService.deleteProduct(id);
         return ResponseEntity.ok(ApiResponse.success(null, "Product deleted successfully"));
     }
-} 
\ No newline at end of file
+
+    private CacheControl cacheControl(Duration maxAge) {
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).mustRevalidate();
+        return sharedCaches ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+}
\ No newline at end of file
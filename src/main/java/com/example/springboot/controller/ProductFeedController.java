@@ -0,0 +1,46 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.feed.ProductChangeBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@Tag(name = "Product Feed", description = "Push notifications of product changes")
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductFeedController {
+
+    private final ProductChangeBroadcaster productChangeBroadcaster;
+
+    @Operation(
+        summary = "Subscribe to product changes",
+        description = "Server-Sent Events stream of product creates, updates and deletes, replacing polling of "
+            + "/api/v1/products. Reconnect with Last-Event-ID to resume, on any instance; a 'reset' event means the gap could not "
+            + "be replayed and the products should be refetched"
+    )
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> changes(
+        @Parameter(description = "Id of the last event received; sent by EventSource on reconnect")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return productChangeBroadcaster.subscribe(lastEventId)
+                .map(events -> ResponseEntity.ok()
+                        .header("X-Accel-Buffering", "no")
+                        .body(events))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+}
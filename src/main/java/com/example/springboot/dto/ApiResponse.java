@@ -1,5 +1,6 @@
 package com.example.springboot.dto;
 
+import com.example.springboot.util.CoarseClock;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -16,6 +17,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
+
+    public static final String STATUS_SUCCESS = "success";
+    public static final String STATUS_ERROR = "error";
+    private static final String DEFAULT_MESSAGE = "Operation completed successfully";
     
     @Schema(description = "Response status", example = "success")
     private String status;
@@ -38,29 +43,21 @@ public class ApiResponse<T> {
     @Schema(description = "Page size for paginated responses")
     private Integer pageSize;
     
+    // factories below skip the builder and share one timestamp per clock tick; they run on every response
     public static <T> ApiResponse<T> success(T data) {
-        return ApiResponse.<T>builder()
-                .status("success")
-                .message("Operation completed successfully")
-                .data(data)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponse<>(STATUS_SUCCESS, DEFAULT_MESSAGE, data, CoarseClock.now(), null, null, null);
     }
     
     public static <T> ApiResponse<T> success(T data, String message) {
-        return ApiResponse.<T>builder()
-                .status("success")
-                .message(message)
-                .data(data)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponse<>(STATUS_SUCCESS, message, data, CoarseClock.now(), null, null, null);
+    }
+    
+    public static ApiResponse<PageResponse<?>> page(PageResponse<?> page, String message) {
+        return new ApiResponse<>(STATUS_SUCCESS, message, page, CoarseClock.now(),
+                page.totalElements(), page.page(), page.size());
     }
     
     public static <T> ApiResponse<T> error(String message) {
-        return ApiResponse.<T>builder()
-                .status("error")
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponse<>(STATUS_ERROR, message, null, CoarseClock.now(), null, null, null);
     }
 } 
\ No newline at end of file
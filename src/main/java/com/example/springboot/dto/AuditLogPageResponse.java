@@ -0,0 +1,24 @@
+package com.example.springboot.dto;
+
+import com.example.springboot.entity.cassandra.AuditLogEntry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "One page of a user's audit history")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogPageResponse {
+
+    @Schema(description = "Audit entries, newest first")
+    private List<AuditLogEntry> entries;
+
+    @Schema(description = "Opaque token for the next page, absent on the last page")
+    private String nextPageToken;
+}
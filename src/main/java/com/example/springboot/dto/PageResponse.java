@@ -0,0 +1,24 @@
+package com.example.springboot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Compact page payload. Serializing Spring's {@code Page} directly emits {@code pageable} and
+ * {@code sort} trees on every response; clients only need these fields.
+ */
+@Schema(description = "Paginated Result")
+public record PageResponse<T>(
+        @Schema(description = "Items on this page") List<T> content,
+        @Schema(description = "Page number (0-based)", example = "0") int page,
+        @Schema(description = "Page size", example = "10") int size,
+        @Schema(description = "Total number of items", example = "42") long totalElements,
+        @Schema(description = "Total number of pages", example = "5") int totalPages) {
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
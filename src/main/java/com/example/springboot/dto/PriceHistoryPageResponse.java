@@ -0,0 +1,24 @@
+package com.example.springboot.dto;
+
+import com.example.springboot.entity.cassandra.PriceChange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "One page of a product's price history")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceHistoryPageResponse {
+
+    @Schema(description = "Price changes, newest first")
+    private List<PriceChange> changes;
+
+    @Schema(description = "Opaque token for the next page, absent on the last page")
+    private String nextPageToken;
+}
@@ -0,0 +1,23 @@
+package com.example.springboot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Batch Product Lookup Request DTO")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchRequest {
+
+    @Schema(description = "Product IDs to fetch, results keep this order", example = "[3, 1, 2]")
+    @NotEmpty(message = "At least one product id is required")
+    @Size(max = 100, message = "At most 100 product ids can be requested at once")
+    private List<@NotNull Long> ids;
+}
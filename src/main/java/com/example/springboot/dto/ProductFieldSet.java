@@ -0,0 +1,86 @@
+package com.example.springboot.dto;
+
+import com.example.springboot.exception.ValidationException;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parsed {@code fields=} parameter. Picks the narrowest repository projection that covers the
+ * requested fields and renders rows as maps holding only those fields.
+ */
+public final class ProductFieldSet {
+
+    private static final List<String> ALL_FIELDS =
+            List.of("id", "name", "description", "price", "createdAt", "updatedAt", "isActive", "version");
+    private static final Set<String> SUMMARY_FIELDS = Set.of("id", "name", "price");
+
+    private final List<String> fields;
+
+    private ProductFieldSet(List<String> fields) {
+        this.fields = fields;
+    }
+
+    public static ProductFieldSet parse(String fields) {
+        Set<String> requested = Set.of();
+        if (fields != null) {
+            requested = new HashSet<>();
+            for (String field : fields.split(",")) {
+                String trimmed = field.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                if (!ALL_FIELDS.contains(trimmed)) {
+                    throw new ValidationException("Unknown product field '" + trimmed + "', expected any of " + ALL_FIELDS);
+                }
+                requested.add(trimmed);
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new ValidationException("fields must name at least one of " + ALL_FIELDS);
+        }
+        // canonical order keeps cache keys and output stable regardless of how the client listed them
+        return new ProductFieldSet(ALL_FIELDS.stream().filter(requested::contains).toList());
+    }
+
+    /**
+     * Projection type to query with, or {@code null} when the description is requested and the
+     * full row has to be loaded anyway.
+     */
+    public Class<? extends ProductSummary> projectionType() {
+        if (SUMMARY_FIELDS.containsAll(fields)) {
+            return ProductSummary.class;
+        }
+        return fields.contains("description") ? null : ProductListItem.class;
+    }
+
+    public Map<String, Object> select(ProductSummary product) {
+        Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2 + 2);
+        for (String field : fields) {
+            if (field.equals("price")) {
+                // an amount is meaningless without its currency
+                row.put("price", product.getPrice());
+                row.put("currency", product.getPrice() != null ? product.getPrice().currency().getCurrencyCode() : null);
+                continue;
+            }
+            row.put(field, switch (field) {
+                case "id" -> product.getId();
+                case "name" -> product.getName();
+                case "description" -> ((ProductResponse) product).getDescription();
+                case "createdAt" -> ((ProductListItem) product).getCreatedAt();
+                case "updatedAt" -> ((ProductListItem) product).getUpdatedAt();
+                case "isActive" -> ((ProductListItem) product).getIsActive();
+                case "version" -> ((ProductListItem) product).getVersion();
+                default -> throw new IllegalStateException("Unhandled field " + field);
+            });
+        }
+        return row;
+    }
+
+    public String cacheKey() {
+        return String.join(",", fields);
+    }
+}
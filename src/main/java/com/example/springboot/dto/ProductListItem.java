@@ -0,0 +1,18 @@
+package com.example.springboot.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection covering every product column except the {@code TEXT} description.
+ */
+public interface ProductListItem extends ProductSummary {
+
+    Boolean getIsActive();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    /** Lets sparse reads send the version back as {@code If-Match}. */
+    Long getVersion();
+}
@@ -0,0 +1,47 @@
+package com.example.springboot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Partial product update; fields left {@code null} are not changed. {@code currency} only applies
+ * together with {@code price}.
+ */
+@Schema(description = "Product Patch DTO")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPatchRequest {
+
+    @Schema(description = "New name of the product", example = "iPhone 15")
+    @Size(min = 1, max = 255, message = "Product name must be between 1 and 255 characters")
+    private String name;
+
+    @Schema(description = "New description of the product", example = "Latest iPhone model")
+    private String description;
+
+    @Schema(description = "New price of the product", example = "949.99")
+    @Positive(message = "Price must be positive")
+    @Digits(integer = 15, fraction = 3, message = "Price must have at most 15 integer and 3 fraction digits")
+    private BigDecimal price;
+
+    @Schema(description = "ISO 4217 currency of the new price; defaults to the catalog currency", example = "USD")
+    @Pattern(regexp = "[A-Za-z]{3}", message = "Currency must be a three-letter ISO 4217 code")
+    private String currency;
+
+    public boolean hasChanges() {
+        return name != null || description != null || price != null;
+    }
+
+    public boolean hasOnlyPrice() {
+        return price != null && name == null && description == null;
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.springboot.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 @Schema(description = "Product Request DTO")
 @Data
 @NoArgsConstructor
@@ -24,5 +28,14 @@ public class ProductRequest {
     @Schema(description = "Price of the product", example = "999.99")
     @NotNull(message = "Product price is required")
     @Positive(message = "Price must be positive")
-    private Double price;
+    @Digits(integer = 15, fraction = 3, message = "Price must have at most 15 integer and 3 fraction digits")
+    private BigDecimal price;
+    
+    @Schema(description = "ISO 4217 currency of the price; defaults to the catalog currency", example = "USD")
+    @Pattern(regexp = "[A-Za-z]{3}", message = "Currency must be a three-letter ISO 4217 code")
+    private String currency;
+    
+    public ProductRequest(String name, String description, BigDecimal price) {
+        this(name, description, price, null);
+    }
 } 
\ No newline at end of file
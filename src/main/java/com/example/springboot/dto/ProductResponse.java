@@ -1,5 +1,6 @@
 package com.example.springboot.dto;
 
+import com.example.springboot.money.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ProductResponse {
+public class ProductResponse implements ProductListItem {
     
     @Schema(description = "Unique identifier of the product", example = "1")
     private Long id;
@@ -24,8 +25,8 @@ public class ProductResponse {
     @Schema(description = "Description of the product", example = "Latest iPhone model")
     private String description;
     
-    @Schema(description = "Price of the product", example = "999.99")
-    private Double price;
+    @Schema(description = "Price of the product", example = "999.99", type = "number")
+    private Money price;
     
     @Schema(description = "Product creation timestamp")
     private LocalDateTime createdAt;
@@ -35,4 +36,12 @@ public class ProductResponse {
     
     @Schema(description = "Product availability status")
     private Boolean isActive;
+    
+    @Schema(description = "Product version; send it back as If-Match to update conditionally", example = "3")
+    private Long version;
+    
+    @Schema(description = "ISO 4217 currency of the price", example = "USD")
+    public String getCurrency() {
+        return price != null ? price.currency().getCurrencyCode() : null;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.springboot.dto;
+
+import com.example.springboot.money.Money;
+
+/**
+ * Closed projection for list views that only need id, name and price.
+ */
+public interface ProductSummary {
+
+    Long getId();
+
+    String getName();
+
+    Money getPrice();
+}
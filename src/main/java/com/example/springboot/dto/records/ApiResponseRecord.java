@@ -0,0 +1,27 @@
+package com.example.springboot.dto.records;
+
+import com.example.springboot.dto.ApiResponse;
+import com.example.springboot.util.CoarseClock;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable counterpart of {@link ApiResponse}; null components are omitted from the JSON, as there.
+ */
+@Schema(description = "Standard API Response Wrapper")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiResponseRecord<T>(
+        @Schema(description = "Response status", example = "success") String status,
+        @Schema(description = "Response message", example = "Operation completed successfully") String message,
+        @Schema(description = "Response data") T data,
+        @Schema(description = "Response timestamp") LocalDateTime timestamp,
+        @Schema(description = "Total count for paginated responses") Long totalCount,
+        @Schema(description = "Page number for paginated responses") Integer pageNumber,
+        @Schema(description = "Page size for paginated responses") Integer pageSize) {
+
+    public static <T> ApiResponseRecord<T> success(T data, String message) {
+        return new ApiResponseRecord<>(ApiResponse.STATUS_SUCCESS, message, data, CoarseClock.now(), null, null, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.springboot.dto.records;
+
+import com.example.springboot.dto.ProductRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable counterpart of {@link ProductRequest}, bound through its canonical constructor by
+ * {@link RecordDtoModule}.
+ */
+@Schema(description = "Product Request DTO")
+public record ProductRequestRecord(
+        @Schema(description = "Name of the product", example = "iPhone 15")
+        @NotBlank(message = "Product name is required") String name,
+        @Schema(description = "Description of the product", example = "Latest iPhone model") String description,
+        @Schema(description = "Price of the product", example = "999.99")
+        @NotNull(message = "Product price is required")
+        @Positive(message = "Price must be positive")
+        @Digits(integer = 15, fraction = 3, message = "Price must have at most 15 integer and 3 fraction digits")
+        BigDecimal price,
+        @Schema(description = "ISO 4217 currency of the price; defaults to the catalog currency", example = "USD")
+        @Pattern(regexp = "[A-Za-z]{3}", message = "Currency must be a three-letter ISO 4217 code") String currency) {
+
+    public ProductRequest toRequest() {
+        return new ProductRequest(name, description, price, currency);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.springboot.dto.records;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.money.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable counterpart of {@link ProductResponse} with the same JSON shape, written by
+ * {@link RecordDtoModule}. The components are the JSON properties, in order, so the bean's derived
+ * {@code currency} is a component here.
+ */
+@Schema(description = "Product Response DTO")
+public record ProductResponseRecord(
+        @Schema(description = "Unique identifier of the product", example = "1") Long id,
+        @Schema(description = "Name of the product", example = "iPhone 15") String name,
+        @Schema(description = "Description of the product", example = "Latest iPhone model") String description,
+        @Schema(description = "Price of the product", example = "999.99", type = "number") Money price,
+        @Schema(description = "Product creation timestamp") LocalDateTime createdAt,
+        @Schema(description = "Product last update timestamp") LocalDateTime updatedAt,
+        @Schema(description = "Product availability status") Boolean isActive,
+        @Schema(description = "Product version; send it back as If-Match to update conditionally") Long version,
+        @Schema(description = "ISO 4217 currency of the price", example = "USD") String currency) {
+
+    public static ProductResponseRecord from(ProductResponse response) {
+        return new ProductResponseRecord(response.getId(), response.getName(), response.getDescription(),
+                response.getPrice(), response.getCreatedAt(), response.getUpdatedAt(), response.getIsActive(),
+                response.getVersion(), response.getCurrency());
+    }
+
+    public static List<ProductResponseRecord> fromAll(List<ProductResponse> responses) {
+        return responses.stream().map(ProductResponseRecord::from).toList();
+    }
+}
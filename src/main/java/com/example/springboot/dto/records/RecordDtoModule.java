@@ -0,0 +1,220 @@
+package com.example.springboot.dto.records;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * (De)serializers for the record DTOs on the busiest endpoints, derived from the record components
+ * so a component added to a record is written and bound without touching this class. The JSON
+ * properties are the components, by name and in declaration order; a class-level
+ * {@code @JsonInclude(NON_NULL)} drops null components. Names are pre-encoded, component accessors
+ * are generated lambdas, serializers for final component types are resolved once per mapper, and
+ * requests are bound straight into the canonical constructor. No type ids are read or written, so
+ * these are unaffected by, and must not be combined with, default typing.
+ */
+public class RecordDtoModule extends SimpleModule {
+
+    public RecordDtoModule() {
+        super("RecordDtoModule");
+        addSerializer(new RecordSerializer<>(ProductResponseRecord.class));
+        addSerializer(new RecordSerializer<>(ApiResponseRecord.class));
+        addDeserializer(ProductRequestRecord.class, new RecordDeserializer<>(ProductRequestRecord.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> accessor(RecordComponent component) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle getter = lookup.unreflect(component.getAccessor());
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), getter,
+                    MethodType.methodType(component.getType().isPrimitive() ? Object.class : component.getType(),
+                            component.getDeclaringRecord()));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot access record component " + component, e);
+        }
+    }
+
+    static final class RecordSerializer<T extends Record> extends StdSerializer<T> implements ContextualSerializer {
+
+        private final SerializedString[] names;
+        private final Function<Object, Object>[] accessors;
+        private final Class<?>[] types;
+        private final JsonSerializer<Object>[] serializers;
+        private final boolean omitNulls;
+
+        @SuppressWarnings("unchecked")
+        RecordSerializer(Class<T> type) {
+            super(type);
+            RecordComponent[] components = type.getRecordComponents();
+            names = new SerializedString[components.length];
+            accessors = new Function[components.length];
+            types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = new SerializedString(components[i].getName());
+                accessors[i] = accessor(components[i]);
+                types[i] = components[i].getType();
+            }
+            serializers = null;
+            JsonInclude include = type.getAnnotation(JsonInclude.class);
+            omitNulls = include != null && include.value() == JsonInclude.Include.NON_NULL;
+        }
+
+        private RecordSerializer(RecordSerializer<T> base, JsonSerializer<Object>[] serializers) {
+            super(base.handledType());
+            this.names = base.names;
+            this.accessors = base.accessors;
+            this.types = base.types;
+            this.serializers = serializers;
+            this.omitNulls = base.omitNulls;
+        }
+
+        /** Resolves serializers for final component types; the rest are looked up per value. */
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (serializers != null) {
+                return this;
+            }
+            JsonSerializer<Object>[] resolved = new JsonSerializer[types.length];
+            for (int i = 0; i < types.length; i++) {
+                if (Modifier.isFinal(types[i].getModifiers())) {
+                    resolved[i] = provider.findValueSerializer(types[i]);
+                }
+            }
+            return new RecordSerializer<>(this, resolved);
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            for (int i = 0; i < names.length; i++) {
+                Object component = accessors[i].apply(value);
+                if (component == null) {
+                    if (!omitNulls) {
+                        gen.writeFieldName(names[i]);
+                        gen.writeNull();
+                    }
+                } else {
+                    gen.writeFieldName(names[i]);
+                    if (serializers != null && serializers[i] != null) {
+                        serializers[i].serialize(component, gen, provider);
+                    } else {
+                        provider.defaultSerializeValue(component, gen);
+                    }
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class RecordDeserializer<T extends Record> extends StdDeserializer<T>
+            implements ContextualDeserializer {
+
+        private final Constructor<T> constructor;
+        private final RecordComponent[] components;
+        private final Map<String, Integer> indexes;
+        private final JsonDeserializer<Object>[] deserializers;
+
+        RecordDeserializer(Class<T> type) {
+            super(type);
+            components = type.getRecordComponents();
+            indexes = new HashMap<>();
+            for (int i = 0; i < components.length; i++) {
+                indexes.put(components[i].getName(), i);
+            }
+            try {
+                constructor = type.getDeclaredConstructor(
+                        Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("No canonical constructor on " + type, e);
+            }
+            deserializers = null;
+        }
+
+        private RecordDeserializer(RecordDeserializer<T> base, JsonDeserializer<Object>[] deserializers) {
+            super(base.handledType());
+            this.constructor = base.constructor;
+            this.components = base.components;
+            this.indexes = base.indexes;
+            this.deserializers = deserializers;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+                throws JsonMappingException {
+            if (deserializers != null) {
+                return this;
+            }
+            JsonDeserializer<Object>[] resolved = new JsonDeserializer[components.length];
+            for (int i = 0; i < components.length; i++) {
+                resolved[i] = ctxt.findRootValueDeserializer(ctxt.constructType(components[i].getGenericType()));
+            }
+            return new RecordDeserializer<>(this, resolved);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            Object[] args = new Object[components.length];
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                JsonToken token = p.nextToken();
+                Integer index = indexes.get(field);
+                if (index == null) {
+                    ctxt.handleUnknownProperty(p, this, handledType(), field);
+                } else {
+                    args[index] = token == JsonToken.VALUE_NULL ? deserializers[index].getNullValue(ctxt)
+                            : deserializers[index].deserialize(p, ctxt);
+                }
+            }
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] == null && components[i].getType().isPrimitive()) {
+                    args[i] = deserializers[i].getNullValue(ctxt);
+                }
+            }
+            try {
+                return constructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                return (T) ctxt.handleInstantiationProblem(handledType(), args, e.getCause());
+            } catch (ReflectiveOperationException e) {
+                return (T) ctxt.handleInstantiationProblem(handledType(), args, e);
+            }
+        }
+    }
+}
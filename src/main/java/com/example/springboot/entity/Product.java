@@ -1,13 +1,15 @@
 package com.example.springboot.entity;
 
+import com.example.springboot.money.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,6 +23,22 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
+@NamedNativeQuery(
+        name = "Product.updatePriceReturningPrevious",
+        // the locked sub-select reads the price the UPDATE replaces, re-read after any concurrent writer commits
+        query = "UPDATE products p SET price_minor = ?3, currency = ?4, version = p.version + 1, updated_at = ?5 "
+                + "FROM (SELECT id, price_minor, currency FROM products WHERE id = ?1 FOR UPDATE) o "
+                + "WHERE p.id = o.id AND p.version = ?2 AND p.is_active = true "
+                + "RETURNING p.*, o.price_minor AS old_price_minor, o.currency AS old_currency",
+        resultSetMapping = "Product.withPreviousPrice")
+@SqlResultSetMapping(
+        name = "Product.withPreviousPrice",
+        entities = @EntityResult(entityClass = Product.class),
+        columns = {
+                @ColumnResult(name = "old_price_minor", type = Long.class),
+                @ColumnResult(name = "old_currency", type = String.class)
+        })
 public class Product {
     @Schema(description = "Unique identifier of the product", example = "1")
     @Id
@@ -36,11 +54,11 @@ public class Product {
     @Column(columnDefinition = "TEXT")
     private String description;
     
-    @Schema(description = "Price of the product", example = "999.99")
+    @Schema(description = "Price of the product in minor units of its currency")
     @NotNull(message = "Product price is required")
-    @Positive(message = "Price must be positive")
-    @Column(nullable = false)
-    private Double price;
+    @Embedded
+    @AttributeOverride(name = "amountMinor", column = @Column(name = "price_minor", nullable = false))
+    private Money price;
     
     @Schema(description = "Product creation timestamp")
     @CreatedDate
@@ -52,7 +70,17 @@ public class Product {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Schema(description = "Id of the user who created the product", example = "1")
+    @CreatedBy
+    @Column(name = "created_by", updatable = false)
+    private Long createdBy;
+    
     @Schema(description = "Product availability status")
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
+    
+    @Schema(description = "Optimistic locking version, incremented on every update", example = "3")
+    @Version
+    @Column(nullable = false)
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.springboot.entity.cassandra;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogEntry {
+    private String userId;
+    private LocalDate day;
+    private UUID eventId;
+    private Instant timestamp;
+    private String action;
+    private String resourceType;
+    private String resourceId;
+    private String details;
+}
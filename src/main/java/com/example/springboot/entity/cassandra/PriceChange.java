@@ -0,0 +1,24 @@
+package com.example.springboot.entity.cassandra;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceChange {
+    private Long productId;
+    private LocalDate day;
+    private UUID changedAt;
+    private Instant timestamp;
+    private Double price;
+    private Double previousPrice;
+    private Long version;
+}
@@ -0,0 +1,43 @@
+package com.example.springboot.entity.cassandra;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRollup {
+    private Long productId;
+    private Resolution resolution;
+    private Instant periodStart;
+    private Double minPrice;
+    private Double maxPrice;
+    /** Mean of the prices set during the period, one sample per change; not time-weighted. */
+    private Double avgPrice;
+    private Long sampleCount;
+
+    public enum Resolution {
+        HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Resolution(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /** Start of the UTC period containing {@code instant}. */
+        public Instant periodStart(Instant instant) {
+            return instant.truncatedTo(unit);
+        }
+
+        public Instant periodEnd(Instant periodStart) {
+            return periodStart.plus(1, unit);
+        }
+    }
+}
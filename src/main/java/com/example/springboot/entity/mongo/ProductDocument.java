@@ -0,0 +1,52 @@
+package com.example.springboot.entity.mongo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized catalog view of a {@link com.example.springboot.entity.Product}, stored in the
+ * {@code products} collection whose indexes are created by {@code db/mongodb/init.js}.
+ */
+@Document(collection = "products")
+@CompoundIndex(name = "currency_price_minor", def = "{'currency': 1, 'priceMinor': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDocument {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true, sparse = true)
+    private Long productId;
+
+    @Indexed
+    private String name;
+
+    private String description;
+
+    /** Price in minor units of {@code currency}, so price bands are integer range scans. */
+    private Long priceMinor;
+
+    private String currency;
+
+    @Indexed(direction = IndexDirection.DESCENDING)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Boolean isActive;
+
+    /** Version of the product row this document was projected from; older projections are dropped. */
+    private Long version;
+}
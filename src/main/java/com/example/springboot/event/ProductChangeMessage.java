@@ -0,0 +1,18 @@
+package com.example.springboot.event;
+
+import com.example.springboot.dto.ProductResponse;
+
+import java.time.Instant;
+
+/**
+ * Wire form of a {@link ProductChangedEvent} on the {@code product-events} topic and in the
+ * {@code /api/v1/products/changes} feed. {@code product} is the state after the change.
+ */
+public record ProductChangeMessage(ProductChangedEvent.Type type, Long productId, Long version,
+                                   ProductResponse product, Instant occurredAt) {
+
+    public static ProductChangeMessage from(ProductChangedEvent event) {
+        ProductResponse product = event.product();
+        return new ProductChangeMessage(event.type(), product.getId(), product.getVersion(), product, Instant.now());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.springboot.event;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.money.Money;
+
+/**
+ * Published by {@link com.example.springboot.service.ProductService} for every product mutation.
+ * Listeners bound to the transaction commit phase only see changes that were actually persisted.
+ * {@code previousPrice} is the price before an update; events without it never count as a price change.
+ */
+public record ProductChangedEvent(Type type, ProductResponse product, Money previousPrice) {
+
+    public ProductChangedEvent(Type type, ProductResponse product) {
+        this(type, product, null);
+    }
+
+    public boolean priceChanged() {
+        return type == Type.CREATED
+                || type == Type.UPDATED && previousPrice != null && !previousPrice.equals(product.getPrice());
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
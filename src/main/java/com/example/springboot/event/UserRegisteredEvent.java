@@ -0,0 +1,7 @@
+package com.example.springboot.event;
+
+/**
+ * Published by {@link com.example.springboot.service.AuthService} when an account is created.
+ */
+public record UserRegisteredEvent(Long userId, String username) {
+}
@@ -0,0 +1,254 @@
+package com.example.springboot.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Fans product changes from the {@code product-events} topic out to Server-Sent Events
+ * subscribers. Every instance is assigned all partitions of the topic, serializes each event once,
+ * and pushes the same immutable event into one shared sink. Subscribers read through their own
+ * bounded buffer and are evicted when it overflows, so a slow client never holds up the consumer
+ * or other subscribers; it reconnects and resumes from its last event id.
+ * <p>
+ * Event ids are the topic position after the event, {@code <partition>:<offset>} per partition
+ * (e.g. {@code 0:41,1:17,2:8}). They mean the same on every instance, so a client may resume on
+ * any of them. The last {@code replay-size} events are kept for resumption, and on startup each
+ * partition is re-read from that far back so a fresh instance can serve reconnects too. A client
+ * whose position is older than the replay window gets a {@code reset} event and should refetch.
+ */
+@Slf4j
+@Component
+public class ProductChangeBroadcaster implements ConsumerSeekAware {
+
+    static final String RESET = "reset";
+    static final String EVICTED = "evicted";
+    static final String TOPIC = "product-events";
+
+    private final ObjectMapper objectMapper;
+    private final int replaySize;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final Duration maxConnectionDuration;
+    private final Sinks.Many<FeedEvent> sink;
+    private final Flux<ServerSentEvent<String>> heartbeats;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter evictions;
+
+    // guarded by this: events in the replay sink, and the first and last offset read per partition
+    private final ArrayDeque<FeedEvent> window;
+    private final Map<Integer, Long> firstRead = new HashMap<>();
+    private final SortedMap<Integer, Long> position = new TreeMap<>();
+    private long sequence;
+
+    public ProductChangeBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                    @Value("${app.feed.replay-size:1024}") int replaySize,
+                                    @Value("${app.feed.subscriber-buffer:256}") int subscriberBuffer,
+                                    @Value("${app.feed.max-subscribers:10000}") int maxSubscribers,
+                                    @Value("${app.feed.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                    @Value("${app.feed.max-connection-duration:30m}") Duration maxConnectionDuration) {
+        this.objectMapper = objectMapper;
+        this.replaySize = replaySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.maxConnectionDuration = maxConnectionDuration;
+        this.sink = Sinks.many().replay().limit(replaySize);
+        this.window = new ArrayDeque<>(replaySize);
+        // one timer for all subscribers; comments keep proxies from closing idle connections
+        this.heartbeats = Flux.interval(heartbeatInterval)
+                .map(tick -> ServerSentEvent.<String>builder().comment("keepalive").build())
+                .share();
+        Gauge.builder("product.feed.subscribers", subscribers, AtomicInteger::get)
+                .description("Open product change feed connections")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("product.feed.evictions")
+                .description("Feed subscribers disconnected for falling too far behind")
+                .register(meterRegistry);
+    }
+
+    // manual assignment of every partition: no group rebalancing, so each instance sees the whole topic
+    @KafkaListener(id = "product-feed", groupId = "product-feed",
+            topicPartitions = @TopicPartition(topic = TOPIC,
+                    partitions = "0-#{@productEventsTopic.numPartitions() - 1}"),
+            properties = "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer")
+    public void onMessage(ConsumerRecord<String, String> record) {
+        publish(record.partition(), record.offset(), record.value());
+    }
+
+    /** Starts {@code replay-size} records back on every partition so the replay window is filled. */
+    @Override
+    public void onPartitionsAssigned(Map<org.apache.kafka.common.TopicPartition, Long> assignments,
+                                     ConsumerSeekCallback callback) {
+        assignments.keySet().forEach(partition ->
+                callback.seekRelative(partition.topic(), partition.partition(), -replaySize, false));
+    }
+
+    synchronized void publish(int partition, long offset, String json) {
+        if (offset <= position.getOrDefault(partition, -1L)) {
+            return;
+        }
+        String type;
+        try {
+            type = objectMapper.readTree(json).path("type").asText("UPDATED");
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping malformed product event at {}:{}: {}", partition, offset, e.getOriginalMessage());
+            return;
+        }
+        firstRead.putIfAbsent(partition, offset);
+        position.put(partition, offset);
+        ServerSentEvent<String> event = ServerSentEvent.builder(json)
+                .id(encodePosition(position))
+                .event(type)
+                .build();
+        FeedEvent feedEvent = new FeedEvent(++sequence, partition, offset, event);
+        Sinks.EmitResult result = sink.tryEmitNext(feedEvent);
+        if (result.isFailure()) {
+            log.warn("Dropped product change {}:{} from the feed: {}", partition, offset, result);
+            return;
+        }
+        if (window.size() == replaySize) {
+            window.removeFirst();
+        }
+        window.addLast(feedEvent);
+    }
+
+    /**
+     * Opens a subscription resuming after {@code lastEventId}, or live from now when it is
+     * {@code null}. Empty when the subscriber limit is reached.
+     */
+    public Optional<Flux<ServerSentEvent<String>>> subscribe(String lastEventId) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            return Optional.empty();
+        }
+        long head;
+        String headId;
+        Map<Integer, Long> resumeAfter = decodePosition(lastEventId);
+        boolean replayable;
+        synchronized (this) {
+            head = sequence;
+            headId = encodePosition(position);
+            replayable = resumeAfter != null && isReplayable(resumeAfter);
+        }
+        Predicate<FeedEvent> unseen = replayable
+                ? event -> event.offset() > resumeAfter.getOrDefault(event.partition(), -1L)
+                : event -> event.sequence() > head;
+        Flux<ServerSentEvent<String>> prefix = Flux.empty();
+        if (lastEventId != null && !replayable) {
+            ServerSentEvent.Builder<String> reset = ServerSentEvent
+                    .builder("{\"reason\":\"history unavailable, refetch products\"}")
+                    .event(RESET);
+            prefix = Flux.just((headId.isEmpty() ? reset : reset.id(headId)).build());
+        }
+
+        Sinks.Empty<Void> closed = Sinks.empty();
+        Flux<ServerSentEvent<String>> events = sink.asFlux()
+                .filter(unseen)
+                .map(FeedEvent::event)
+                .onBackpressureBuffer(subscriberBuffer, dropped -> { }, BufferOverflowStrategy.ERROR)
+                .onErrorResume(Exceptions::isOverflow, e -> {
+                    evictions.increment();
+                    return Flux.just(ServerSentEvent.builder("{\"reason\":\"slow consumer\"}")
+                            .event(EVICTED)
+                            .retry(Duration.ofSeconds(1))
+                            .build());
+                })
+                .doFinally(signal -> closed.tryEmitEmpty());
+
+        return Optional.of(Flux.merge(prefix.concatWith(events),
+                        heartbeats.onBackpressureDrop().takeUntilOther(closed.asMono()))
+                // bounded lifetime spreads long-lived connections across instances over time
+                .take(maxConnectionDuration)
+                .doFinally(signal -> subscribers.decrementAndGet()));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sink.tryEmitComplete();
+    }
+
+    /**
+     * A position can be resumed when, for every partition this instance has read, nothing between
+     * it and the oldest retained event of that partition has been dropped from the window. A
+     * partition missing from the position had no events yet for the client, so it replays from the
+     * first record this instance read, provided that is still retained.
+     */
+    private boolean isReplayable(Map<Integer, Long> resumeAfter) {
+        Map<Integer, Long> oldestRetained = new HashMap<>();
+        for (FeedEvent event : window) {
+            oldestRetained.putIfAbsent(event.partition(), event.offset());
+        }
+        for (Map.Entry<Integer, Long> seen : position.entrySet()) {
+            long oldest = oldestRetained.getOrDefault(seen.getKey(), seen.getValue() + 1);
+            Long resumed = resumeAfter.get(seen.getKey());
+            if (resumed == null ? oldest != firstRead.get(seen.getKey()) : resumed < oldest - 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String encodePosition(SortedMap<Integer, Long> position) {
+        StringBuilder id = new StringBuilder(position.size() * 12);
+        position.forEach((partition, offset) -> {
+            if (!id.isEmpty()) {
+                id.append(',');
+            }
+            id.append(partition).append(':').append(offset);
+        });
+        return id.toString();
+    }
+
+    /** @return the offsets in {@code lastEventId}, or null when it is absent or not a position */
+    static Map<Integer, Long> decodePosition(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        Map<Integer, Long> position = new HashMap<>();
+        try {
+            for (String entry : lastEventId.split(",")) {
+                int colon = entry.indexOf(':');
+                if (colon <= 0) {
+                    return null;
+                }
+                position.put(Integer.parseInt(entry.substring(0, colon).trim()),
+                        Long.parseLong(entry.substring(colon + 1).trim()));
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return position;
+    }
+
+    record FeedEvent(long sequence, int partition, long offset, ServerSentEvent<String> event) {
+    }
+}
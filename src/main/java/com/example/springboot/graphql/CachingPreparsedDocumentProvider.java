@@ -0,0 +1,37 @@
+package com.example.springboot.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+import java.util.function.Function;
+
+/**
+ * Keeps parsed and validated documents keyed by query text. Front ends send a small set of fixed
+ * queries with varying variables, so after warm-up no request pays for parsing or validation.
+ * Validation does not depend on variables, which makes the text a sufficient key; depth and
+ * complexity limits are still enforced per execution.
+ */
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+
+    public CachingPreparsedDocumentProvider(long maximumSize) {
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        return documents.get(executionInput.getQuery(), query -> parseAndValidateFunction.apply(executionInput));
+    }
+
+    public Cache<String, PreparsedDocumentEntry> getDocuments() {
+        return documents;
+    }
+}
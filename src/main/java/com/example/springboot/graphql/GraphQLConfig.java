@@ -0,0 +1,112 @@
+package com.example.springboot.graphql;
+
+import graphql.GraphQL;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.spring.web.servlet.ExecutionInputCustomizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read-only GraphQL API over products and users, served at {@code /graphql}. Queries deeper than
+ * {@code app.graphql.max-depth} or costlier than {@code app.graphql.max-complexity} are rejected
+ * before execution; see {@link #complexityCalculator(int)} for how cost is counted.
+ */
+@Configuration
+public class GraphQLConfig {
+
+    @Bean
+    public GraphQLSchema graphQLSchema(ProductGraphQLFetchers fetchers) throws IOException {
+        TypeDefinitionRegistry types;
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource("graphql/schema.graphqls").getInputStream(), StandardCharsets.UTF_8)) {
+            types = new SchemaParser().parse(reader);
+        }
+        return new SchemaGenerator().makeExecutableSchema(types, runtimeWiring(fetchers));
+    }
+
+    static RuntimeWiring runtimeWiring(ProductGraphQLFetchers fetchers) {
+        return RuntimeWiring.newRuntimeWiring()
+                .type("Query", type -> type
+                        .dataFetcher("product", fetchers.product())
+                        .dataFetcher("products", fetchers.products())
+                        .dataFetcher("productPage", fetchers.productPage())
+                        .dataFetcher("user", fetchers.user())
+                        .dataFetcher("users", fetchers.users()))
+                .type("Product", type -> type.dataFetcher("createdBy", fetchers.productCreatedBy()))
+                .type("User", type -> type
+                        .dataFetcher("products", fetchers.userProducts())
+                        .dataFetcher("fullName", fetchers.userFullName())
+                        .dataFetcher("role", fetchers.userRole()))
+                .type("Money", type -> type
+                        .dataFetcher("amount", fetchers.moneyAmount())
+                        .dataFetcher("currency", fetchers.moneyCurrency()))
+                .build();
+    }
+
+    @Bean
+    public CachingPreparsedDocumentProvider preparsedDocumentProvider(
+            MeterRegistry meterRegistry, @Value("${app.graphql.document-cache-size:500}") long documentCacheSize) {
+        CachingPreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(documentCacheSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, provider.getDocuments(), "graphql-documents");
+        return provider;
+    }
+
+    @Bean
+    public GraphQL graphQL(GraphQLSchema graphQLSchema, CachingPreparsedDocumentProvider preparsedDocumentProvider,
+                           @Value("${app.graphql.max-depth:8}") int maxDepth,
+                           @Value("${app.graphql.max-complexity:2000}") int maxComplexity) {
+        return GraphQL.newGraphQL(graphQLSchema)
+                .instrumentation(new ChainedInstrumentation(List.of(
+                        new MaxQueryDepthInstrumentation(maxDepth),
+                        new MaxQueryComplexityInstrumentation(maxComplexity, complexityCalculator(maxComplexity)))))
+                .preparsedDocumentProvider(preparsedDocumentProvider)
+                .build();
+    }
+
+    /**
+     * A field costs 1 plus its selection once per item it can return, taken from its {@code size},
+     * {@code first} or {@code ids} argument, so nested lists multiply. Capped just above the limit
+     * so huge arguments cannot overflow the sum.
+     */
+    static FieldComplexityCalculator complexityCalculator(int maxComplexity) {
+        return (env, childComplexity) -> {
+            Map<String, Object> arguments = env.getArguments();
+            long items = 1;
+            if (arguments.get("size") instanceof Integer size) {
+                items = size;
+            } else if (arguments.get("first") instanceof Integer first) {
+                items = first;
+            } else if (arguments.get("ids") instanceof List<?> ids) {
+                items = ids.size();
+            }
+            return (int) Math.min(maxComplexity + 1L, 1 + Math.max(1, items) * childComplexity);
+        };
+    }
+
+    /** Attaches a fresh set of data loaders to every request. */
+    @Bean
+    public ExecutionInputCustomizer executionInputCustomizer(GraphQLDataLoaders dataLoaders) {
+        return (executionInput, webRequest) -> CompletableFuture.completedFuture(
+                executionInput.transform(input -> input.dataLoaderRegistry(dataLoaders.newRegistry())));
+    }
+}
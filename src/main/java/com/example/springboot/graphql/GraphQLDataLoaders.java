@@ -0,0 +1,93 @@
+package com.example.springboot.graphql;
+
+import com.example.springboot.entity.Product;
+import com.example.springboot.entity.User;
+import com.example.springboot.repository.ProductRepository;
+import com.example.springboot.repository.UserRepository;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Batch loaders behind the GraphQL fetchers. Every key a request asks for at one level of the
+ * query is collected and loaded with a single {@code IN} query; repeated keys within the request
+ * are served from the loader's cache. Loads run in read-only transactions so they can be routed
+ * to a replica.
+ */
+@Component
+public class GraphQLDataLoaders {
+
+    public static final String PRODUCT_BY_ID = "productById";
+    public static final String USER_BY_ID = "userById";
+    public static final String PRODUCTS_BY_CREATOR = "productsByCreator";
+
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DataLoaderOptions options;
+
+    public GraphQLDataLoaders(ProductRepository productRepository, UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.graphql.max-batch-size:500}") int maxBatchSize) {
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.options = DataLoaderOptions.newOptions().setMaxBatchSize(maxBatchSize);
+    }
+
+    /** A fresh registry per request, so cached entities never outlive or leak across requests. */
+    public DataLoaderRegistry newRegistry() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        registry.register(PRODUCT_BY_ID, DataLoaderFactory.newMappedDataLoader(this::loadProducts, options));
+        registry.register(USER_BY_ID, DataLoaderFactory.newMappedDataLoader(this::loadUsers, options));
+        registry.register(PRODUCTS_BY_CREATOR, DataLoaderFactory.newMappedDataLoader(this::loadProductsByCreator, options));
+        return registry;
+    }
+
+    <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    private CompletionStage<Map<Long, Product>> loadProducts(Set<Long> ids) {
+        return CompletableFuture.completedFuture(readOnly(() -> productRepository.findByIdInAndIsActiveTrue(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()))));
+    }
+
+    private CompletionStage<Map<Long, User>> loadUsers(Set<Long> ids) {
+        return CompletableFuture.completedFuture(readOnly(() -> userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()))));
+    }
+
+    /** One windowed query per distinct {@code first} in the batch; usually there is only one. */
+    private CompletionStage<Map<CreatorProducts, List<Product>>> loadProductsByCreator(Set<CreatorProducts> keys) {
+        return CompletableFuture.completedFuture(readOnly(() -> {
+            Map<CreatorProducts, List<Product>> result = new HashMap<>();
+            keys.stream()
+                    .collect(Collectors.groupingBy(CreatorProducts::first,
+                            Collectors.mapping(CreatorProducts::userId, Collectors.toSet())))
+                    .forEach((first, userIds) -> productRepository.findFirstActiveByCreators(userIds, first).stream()
+                            .collect(Collectors.groupingBy(Product::getCreatedBy))
+                            .forEach((userId, products) -> result.put(new CreatorProducts(userId, first), products)));
+            return result;
+        }));
+    }
+
+    /** Key of {@link #PRODUCTS_BY_CREATOR}: the first {@code first} products of a creator. */
+    public record CreatorProducts(Long userId, int first) {
+    }
+}
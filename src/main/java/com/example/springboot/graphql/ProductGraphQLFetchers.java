@@ -0,0 +1,155 @@
+package com.example.springboot.graphql;
+
+import com.example.springboot.entity.Product;
+import com.example.springboot.entity.User;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.money.Money;
+import com.example.springboot.repository.ProductRepository;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Data fetchers for {@code graphql/schema.graphqls}. Everything that resolves an entity by id goes
+ * through the request's {@link GraphQLDataLoaders}; only the page query hits the repository
+ * directly, and it primes the product loader with what it read. User lookups by id are for admins
+ * only, and a creator's full name and role are only shown to admins.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductGraphQLFetchers {
+
+    private final ProductRepository productRepository;
+    private final GraphQLDataLoaders dataLoaders;
+
+    @Value("${app.products.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    @Value("${app.graphql.max-page-size:100}")
+    private int maxPageSize = 100;
+
+    public DataFetcher<CompletableFuture<Product>> product() {
+        return env -> productLoader(env).load(parseId(env.getArgument("id")));
+    }
+
+    public DataFetcher<CompletableFuture<List<Product>>> products() {
+        return env -> productLoader(env).loadMany(parseIds(env.getArgument("ids")));
+    }
+
+    public DataFetcher<Map<String, Object>> productPage() {
+        return env -> {
+            int page = env.getArgument("page");
+            int size = env.getArgument("size");
+            if (page < 0 || size <= 0 || size > maxPageSize) {
+                throw new ValidationException("page must be >= 0 and size between 1 and " + maxPageSize);
+            }
+            Page<Product> result = dataLoaders.readOnly(
+                    () -> productRepository.findByIsActiveTrue(PageRequest.of(page, size, Sort.by("id"))));
+            DataLoader<Long, Product> loader = productLoader(env);
+            result.forEach(product -> loader.prime(product.getId(), product));
+            return Map.of("content", result.getContent(), "totalElements", result.getTotalElements(),
+                    "page", page, "size", size);
+        };
+    }
+
+    public DataFetcher<CompletableFuture<User>> user() {
+        return env -> {
+            requireAdmin();
+            return userLoader(env).load(parseId(env.getArgument("id")));
+        };
+    }
+
+    public DataFetcher<CompletableFuture<List<User>>> users() {
+        return env -> {
+            requireAdmin();
+            return userLoader(env).loadMany(parseIds(env.getArgument("ids")));
+        };
+    }
+
+    public DataFetcher<String> userFullName() {
+        return env -> isAdmin() ? env.<User>getSource().getFullName() : null;
+    }
+
+    public DataFetcher<String> userRole() {
+        return env -> isAdmin() ? env.<User>getSource().getRole().name() : null;
+    }
+
+    public DataFetcher<CompletableFuture<User>> productCreatedBy() {
+        return env -> {
+            Product product = env.getSource();
+            return product.getCreatedBy() == null
+                    ? CompletableFuture.completedFuture(null)
+                    : userLoader(env).load(product.getCreatedBy());
+        };
+    }
+
+    public DataFetcher<CompletableFuture<List<Product>>> userProducts() {
+        return env -> {
+            User user = env.getSource();
+            int first = env.getArgument("first");
+            if (first <= 0 || first > maxPageSize) {
+                throw new ValidationException("first must be between 1 and " + maxPageSize);
+            }
+            DataLoader<GraphQLDataLoaders.CreatorProducts, List<Product>> loader =
+                    env.getDataLoader(GraphQLDataLoaders.PRODUCTS_BY_CREATOR);
+            return loader.load(new GraphQLDataLoaders.CreatorProducts(user.getId(), first))
+                    .thenApply(products -> products == null ? List.of() : products);
+        };
+    }
+
+    public DataFetcher<String> moneyAmount() {
+        return env -> env.<Money>getSource().toDecimal().toPlainString();
+    }
+
+    public DataFetcher<String> moneyCurrency() {
+        return env -> env.<Money>getSource().currency().getCurrencyCode();
+    }
+
+    private static boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    private static void requireAdmin() {
+        if (!isAdmin()) {
+            throw new AccessDeniedException("Looking up users requires the ADMIN role");
+        }
+    }
+
+    private static DataLoader<Long, Product> productLoader(DataFetchingEnvironment env) {
+        return env.getDataLoader(GraphQLDataLoaders.PRODUCT_BY_ID);
+    }
+
+    private static DataLoader<Long, User> userLoader(DataFetchingEnvironment env) {
+        return env.getDataLoader(GraphQLDataLoaders.USER_BY_ID);
+    }
+
+    private List<Long> parseIds(List<String> ids) {
+        if (ids.size() > maxBatchSize) {
+            throw new ValidationException("At most " + maxBatchSize + " ids may be requested at once");
+        }
+        return ids.stream().map(ProductGraphQLFetchers::parseId).toList();
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid id '" + id + "'");
+        }
+    }
+}
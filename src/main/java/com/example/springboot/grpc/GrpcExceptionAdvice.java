@@ -0,0 +1,53 @@
+package com.example.springboot.grpc;
+
+import com.example.springboot.exception.PreconditionFailedException;
+import com.example.springboot.exception.ResourceNotFoundException;
+import com.example.springboot.exception.ServiceOverloadedException;
+import com.example.springboot.exception.ValidationException;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * gRPC counterpart of {@code GlobalExceptionHandler}: maps service exceptions to status codes.
+ */
+@Slf4j
+@GrpcAdvice
+public class GrpcExceptionAdvice {
+
+    @GrpcExceptionHandler(ResourceNotFoundException.class)
+    public Status handleResourceNotFound(ResourceNotFoundException e) {
+        return Status.NOT_FOUND.withDescription(e.getMessage());
+    }
+
+    @GrpcExceptionHandler(ValidationException.class)
+    public Status handleValidation(ValidationException e) {
+        return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+    }
+
+    @GrpcExceptionHandler(PreconditionFailedException.class)
+    public Status handlePreconditionFailed(PreconditionFailedException e) {
+        log.warn("Precondition failed: {}", e.getMessage());
+        return Status.FAILED_PRECONDITION.withDescription(e.getMessage());
+    }
+
+    /** A concurrent write won; ABORTED tells the client to re-read and retry, like HTTP 409. */
+    @GrpcExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public Status handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("Concurrent modification: {}", e.getMessage());
+        return Status.ABORTED.withDescription("The product was modified concurrently; reload it and retry");
+    }
+
+    @GrpcExceptionHandler(ServiceOverloadedException.class)
+    public Status handleOverloaded(ServiceOverloadedException e) {
+        return Status.UNAVAILABLE.withDescription(e.getMessage());
+    }
+
+    @GrpcExceptionHandler(Exception.class)
+    public Status handleUnexpected(Exception e) {
+        log.error("Unhandled gRPC error", e);
+        return Status.INTERNAL.withDescription("Internal error");
+    }
+}
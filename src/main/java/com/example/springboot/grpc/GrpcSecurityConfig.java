@@ -0,0 +1,49 @@
+package com.example.springboot.grpc;
+
+import com.example.springboot.grpc.v1.ProductServiceGrpc;
+import com.example.springboot.security.JwtAuthenticationProvider;
+import io.grpc.health.v1.HealthGrpc;
+import net.devh.boot.grpc.server.security.authentication.BearerAuthenticationReader;
+import net.devh.boot.grpc.server.security.authentication.GrpcAuthenticationReader;
+import net.devh.boot.grpc.server.security.check.AccessPredicate;
+import net.devh.boot.grpc.server.security.check.AccessPredicateVoter;
+import net.devh.boot.grpc.server.security.check.GrpcSecurityMetadataSource;
+import net.devh.boot.grpc.server.security.check.ManualGrpcSecurityMetadataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.AccessDecisionManager;
+import org.springframework.security.access.vote.UnanimousBased;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * gRPC counterpart of {@code SecurityConfig}: callers send the same JWT as the REST API in an
+ * {@code authorization: Bearer ...} metadata entry, and the product service requires the same
+ * roles as {@code /api/v1/products/**}. Only the health service is open; anything else
+ * registered on the port (reflection, when enabled) is denied.
+ */
+@Configuration
+public class GrpcSecurityConfig {
+
+    @Bean
+    public GrpcAuthenticationReader grpcAuthenticationReader() {
+        return new BearerAuthenticationReader(JwtAuthenticationProvider.BearerToken::new);
+    }
+
+    @Bean
+    public GrpcSecurityMetadataSource grpcSecurityMetadataSource() {
+        ManualGrpcSecurityMetadataSource source = new ManualGrpcSecurityMetadataSource();
+        source.setDefault(AccessPredicate.denyAll());
+        source.set(HealthGrpc.getServiceDescriptor(), AccessPredicate.permitAll());
+        source.set(ProductServiceGrpc.getServiceDescriptor(), AccessPredicate.hasAnyAuthority(
+                new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        return source;
+    }
+
+    @Bean
+    @SuppressWarnings("deprecation") // the starter's authorization interceptor is built on AccessDecisionManager
+    public AccessDecisionManager grpcAccessDecisionManager() {
+        return new UnanimousBased(List.of(new AccessPredicateVoter()));
+    }
+}
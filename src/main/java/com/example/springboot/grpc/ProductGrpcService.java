@@ -0,0 +1,195 @@
+package com.example.springboot.grpc;
+
+import com.example.springboot.dto.ProductRequest;
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.grpc.v1.BatchGetProductsRequest;
+import com.example.springboot.grpc.v1.BatchGetProductsResponse;
+import com.example.springboot.grpc.v1.BulkUpsertProductsRequest;
+import com.example.springboot.grpc.v1.BulkUpsertProductsResponse;
+import com.example.springboot.grpc.v1.GetProductRequest;
+import com.example.springboot.grpc.v1.ListProductsRequest;
+import com.example.springboot.grpc.v1.Product;
+import com.example.springboot.grpc.v1.ProductInput;
+import com.example.springboot.grpc.v1.ProductServiceGrpc;
+import com.example.springboot.money.Money;
+import com.example.springboot.service.CatalogVersionTracker;
+import com.example.springboot.service.ProductService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC front for {@link ProductService}, for internal callers that don't want to pay for JSON.
+ * Point reads go through the same caches as the REST endpoints; ListProducts pages the database.
+ * Calls are authenticated and authorized by {@link GrpcSecurityConfig}.
+ */
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class ProductGrpcService extends ProductServiceGrpc.ProductServiceImplBase {
+
+    private final ProductService productService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @Value("${app.money.default-currency:USD}")
+    private String defaultCurrency = "USD";
+
+    @Value("${app.products.stream-page-size:500}")
+    private int streamPageSize = 500;
+
+    @Value("${app.products.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    @Override
+    public void getProduct(GetProductRequest request, StreamObserver<Product> responseObserver) {
+        responseObserver.onNext(toProto(productService.getProductById(request.getId())));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchGetProducts(BatchGetProductsRequest request, StreamObserver<BatchGetProductsResponse> responseObserver) {
+        BatchGetProductsResponse.Builder response = BatchGetProductsResponse.newBuilder();
+        productService.getProductsByIds(request.getIdsList()).forEach(product -> response.addProducts(toProto(product)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void listProducts(ListProductsRequest request, StreamObserver<Product> responseObserver) {
+        ServerCallStreamObserver<Product> call = (ServerCallStreamObserver<Product>) responseObserver;
+        CatalogPager products = new CatalogPager();
+        AtomicBoolean completed = new AtomicBoolean();
+        call.setOnCancelHandler(() -> log.debug("ListProducts cancelled by client"));
+        // only push (and only query the next page) while the transport has room, so neither the
+        // catalog nor a slow consumer's backlog is ever held in memory
+        call.setOnReadyHandler(() -> {
+            while (call.isReady() && !call.isCancelled() && products.hasNext()) {
+                call.onNext(toProto(products.next()));
+            }
+            if (!call.isCancelled() && products.isDrained() && completed.compareAndSet(false, true)) {
+                call.onCompleted();
+            }
+        });
+    }
+
+    /**
+     * Walks the active catalog in id order, one keyset page at a time. Only used from the call's
+     * on-ready handler, which gRPC never runs concurrently for one call.
+     */
+    private class CatalogPager implements Iterator<ProductResponse> {
+
+        private Iterator<ProductResponse> page = Collections.emptyIterator();
+        private long lastId;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !exhausted) {
+                List<ProductResponse> next = productService.getActiveProductsAfter(lastId, streamPageSize);
+                exhausted = next.size() < streamPageSize;
+                page = next.iterator();
+            }
+            return page.hasNext();
+        }
+
+        /** True once the last page has been read and sent; unlike {@link #hasNext} it never queries. */
+        boolean isDrained() {
+            return exhausted && !page.hasNext();
+        }
+
+        @Override
+        public ProductResponse next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ProductResponse product = page.next();
+            lastId = product.getId();
+            return product;
+        }
+    }
+
+    @Override
+    public void bulkUpsertProducts(BulkUpsertProductsRequest request, StreamObserver<BulkUpsertProductsResponse> responseObserver) {
+        if (request.getProductsCount() > maxBatchSize) {
+            throw new ValidationException("At most " + maxBatchSize + " products can be upserted at once");
+        }
+        request.getProductsList().forEach(input -> validate(toRequest(input)));
+        List<ProductResponse> saved = transactionTemplate.execute(status -> {
+            List<ProductResponse> results = new ArrayList<>(request.getProductsCount());
+            for (ProductInput input : request.getProductsList()) {
+                results.add(input.hasId()
+                        ? productService.updateProduct(input.getId(), toRequest(input))
+                        : productService.createProduct(toRequest(input)));
+            }
+            return results;
+        });
+        BulkUpsertProductsResponse.Builder response = BulkUpsertProductsResponse.newBuilder();
+        saved.forEach(product -> response.addProducts(toProto(product)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    private void validate(ProductRequest request) {
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private ProductRequest toRequest(ProductInput input) {
+        String currency = input.getCurrency().isEmpty() ? null : input.getCurrency();
+        BigDecimal price;
+        if (input.hasPriceMinor()) {
+            price = BigDecimal.valueOf(input.getPriceMinor(), fractionDigits(currency));
+        } else {
+            // proto3 has no null for scalars; treat 0 as missing so @Positive rejects it. valueOf goes
+            // through the shortest decimal string, so 999.99 arrives as exactly 999.99
+            price = input.getPrice() == 0 ? null : BigDecimal.valueOf(input.getPrice());
+        }
+        return new ProductRequest(input.getName(), input.getDescription(), price, currency);
+    }
+
+    private int fractionDigits(String currency) {
+        try {
+            return Money.currency(currency != null ? currency : defaultCurrency).getDefaultFractionDigits();
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+    }
+
+    private static Product toProto(ProductResponse product) {
+        Product.Builder builder = Product.newBuilder()
+                .setId(product.getId())
+                .setName(product.getName())
+                .setPrice(product.getPrice().toDouble())
+                .setPriceMinor(product.getPrice().amountMinor())
+                .setCurrency(product.getCurrency())
+                .setActive(Boolean.TRUE.equals(product.getIsActive()))
+                .setCreatedAtMillis(CatalogVersionTracker.toEpochMillis(product.getCreatedAt()))
+                .setUpdatedAtMillis(CatalogVersionTracker.toEpochMillis(product.getUpdatedAt()));
+        if (product.getDescription() != null) {
+            builder.setDescription(product.getDescription());
+        }
+        return builder.build();
+    }
+}
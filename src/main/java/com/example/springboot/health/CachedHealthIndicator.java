@@ -0,0 +1,120 @@
+package com.example.springboot.health;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Health indicator that never touches its dependency on the probe path. {@link HealthCheckScheduler}
+ * calls {@link #refresh} in the background and {@link #health()} only returns the last result,
+ * reporting DOWN once that result has outlived its validity, e.g. because checks stopped completing.
+ */
+@Slf4j
+public abstract class CachedHealthIndicator implements HealthIndicator {
+
+    private final Clock clock;
+    private final AtomicBoolean checking = new AtomicBoolean();
+    private volatile Health lastHealth = Health.unknown().withDetail("status", "Not checked yet").build();
+    private volatile Instant lastChecked;
+    private volatile Instant validUntil;
+
+    protected CachedHealthIndicator() {
+        this(Clock.systemUTC());
+    }
+
+    protected CachedHealthIndicator(Clock clock) {
+        this.clock = clock;
+    }
+
+    /** Performs the actual dependency check; runs on the health-check executor, never on a probe thread. */
+    protected abstract Health check() throws Exception;
+
+    /** Detail identifying the dependency, e.g. {@code "database" -> "PostgreSQL"}. */
+    protected abstract Health.Builder describe(Health.Builder builder);
+
+    /**
+     * Starts a check unless the previous one is still running, so a hanging dependency ties up at
+     * most one executor thread per indicator. On timeout the check thread is interrupted and the
+     * result reported DOWN right away, but no new check starts until that thread has actually
+     * returned; a check that ignores interrupts keeps its indicator DOWN instead of draining the pool.
+     */
+    public CompletableFuture<Void> refresh(Executor executor, Duration timeout, Duration validFor) {
+        if (!checking.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Health> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                result.complete(checkSafely());
+            } finally {
+                checking.set(false);
+            }
+        }, null);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            checking.set(false);
+            return CompletableFuture.failedFuture(e);
+        }
+        return result
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((health, e) -> {
+                    if (e != null) {
+                        task.cancel(true);
+                    }
+                })
+                .exceptionally(e -> describe(Health.down())
+                        .withDetail("error", unwrap(e) instanceof TimeoutException
+                                ? "Timed out after " + timeout.toMillis() + "ms"
+                                : String.valueOf(unwrap(e).getMessage()))
+                        .build())
+                .thenAccept(health -> {
+                    Instant now = clock.instant();
+                    validUntil = now.plus(validFor);
+                    lastHealth = health;
+                    lastChecked = now;
+                });
+    }
+
+    @Override
+    public Health health() {
+        Instant checkedAt = lastChecked;
+        if (checkedAt == null) {
+            return lastHealth;
+        }
+        if (clock.instant().isAfter(validUntil)) {
+            return describe(Health.down())
+                    .withDetail("error", "No check result since " + checkedAt)
+                    .build();
+        }
+        return Health.status(lastHealth.getStatus())
+                .withDetails(lastHealth.getDetails())
+                .withDetail("checkedAt", checkedAt.toString())
+                .build();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private Health checkSafely() {
+        try {
+            return check();
+        } catch (Exception e) {
+            log.warn("{} failed: {}", getClass().getSimpleName(), e.getMessage());
+            return describe(Health.down()).withDetail("error", String.valueOf(e.getMessage())).build();
+        }
+    }
+}
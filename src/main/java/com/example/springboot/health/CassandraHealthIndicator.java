@@ -0,0 +1,34 @@
+package com.example.springboot.health;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CassandraHealthIndicator extends CachedHealthIndicator {
+
+    private static final SimpleStatement VERSION_QUERY = SimpleStatement
+            .newInstance("SELECT release_version FROM system.local")
+            .setConsistencyLevel(DefaultConsistencyLevel.LOCAL_ONE)
+            .setIdempotent(true);
+
+    private final CqlSession cqlSession;
+
+    @Override
+    protected Health check() {
+        Row row = cqlSession.execute(VERSION_QUERY).one();
+        return describe(Health.up())
+                .withDetail("version", row != null ? row.getString("release_version") : "unknown")
+                .build();
+    }
+
+    @Override
+    protected Health.Builder describe(Health.Builder builder) {
+        return builder.withDetail("database", "Cassandra");
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.springboot.health;
+
+import com.example.springboot.config.DataSourceConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+@Component
+public class DatabaseHealthIndicator extends CachedHealthIndicator {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource dataSource;
+
+    public DatabaseHealthIndicator(@Qualifier(DataSourceConfig.ADMIN_DATA_SOURCE) DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    protected Health check() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return describe(Health.up()).withDetail("status", "Connected").build();
+            }
+            return describe(Health.down()).withDetail("status", "Connection invalid").build();
+        }
+    }
+
+    @Override
+    protected Health.Builder describe(Health.Builder builder) {
+        return builder.withDetail("database", "PostgreSQL");
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.springboot.health;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Refreshes every {@link CachedHealthIndicator} on a fixed schedule, each check on its own executor
+ * thread with a timeout, so liveness/readiness probes are served from memory however often they poll.
+ */
+@Slf4j
+@Component
+public class HealthCheckScheduler {
+
+    private final List<CachedHealthIndicator> indicators;
+    private final Duration timeout;
+    private final Duration validFor;
+    private final ExecutorService executor;
+
+    public HealthCheckScheduler(List<CachedHealthIndicator> indicators,
+                                @Value("${app.health.interval:10s}") Duration interval,
+                                @Value("${app.health.timeout:2s}") Duration timeout,
+                                @Value("${app.health.stale-after-intervals:3}") int staleAfterIntervals) {
+        this.indicators = indicators;
+        this.timeout = timeout;
+        this.validFor = interval.multipliedBy(staleAfterIntervals);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, indicators.size()), runnable -> {
+            Thread thread = new Thread(runnable, "health-check-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.health.interval:10s}")
+    public void refreshAll() {
+        for (CachedHealthIndicator indicator : indicators) {
+            indicator.refresh(executor, timeout, validFor);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
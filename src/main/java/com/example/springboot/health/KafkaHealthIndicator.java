@@ -0,0 +1,68 @@
+package com.example.springboot.health;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes the cluster through one long-lived admin client rather than creating a client per check.
+ */
+@Component
+public class KafkaHealthIndicator extends CachedHealthIndicator {
+
+    private final KafkaAdmin kafkaAdmin;
+    private final Duration timeout;
+    private volatile AdminClient adminClient;
+
+    public KafkaHealthIndicator(KafkaAdmin kafkaAdmin, @Value("${app.health.timeout:2s}") Duration timeout) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected Health check() throws Exception {
+        DescribeClusterResult cluster = adminClient()
+                .describeCluster(new DescribeClusterOptions().timeoutMs((int) timeout.toMillis()));
+        String clusterId = cluster.clusterId().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        int nodes = cluster.nodes().get(timeout.toMillis(), TimeUnit.MILLISECONDS).size();
+        return describe(Health.up())
+                .withDetail("clusterId", clusterId)
+                .withDetail("nodes", nodes)
+                .build();
+    }
+
+    @Override
+    protected Health.Builder describe(Health.Builder builder) {
+        return builder.withDetail("broker", "Kafka");
+    }
+
+    private AdminClient adminClient() {
+        AdminClient client = adminClient;
+        if (client == null) {
+            synchronized (this) {
+                client = adminClient;
+                if (client == null) {
+                    client = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+                    adminClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    @PreDestroy
+    void close() {
+        AdminClient client = adminClient;
+        if (client != null) {
+            client.close(Duration.ofSeconds(1));
+        }
+    }
+}
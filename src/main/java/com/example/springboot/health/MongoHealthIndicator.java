@@ -0,0 +1,27 @@
+package com.example.springboot.health;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MongoHealthIndicator extends CachedHealthIndicator {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    protected Health check() {
+        Document result = mongoTemplate.executeCommand("{ hello: 1 }");
+        return describe(Health.up())
+                .withDetail("maxWireVersion", result.getInteger("maxWireVersion"))
+                .build();
+    }
+
+    @Override
+    protected Health.Builder describe(Health.Builder builder) {
+        return builder.withDetail("database", "MongoDB");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.springboot.health;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RabbitHealthIndicator extends CachedHealthIndicator {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    @Override
+    protected Health check() {
+        Object version = rabbitTemplate.execute(channel ->
+                channel.getConnection().getServerProperties().get("version"));
+        return describe(Health.up())
+                .withDetail("version", String.valueOf(version))
+                .build();
+    }
+
+    @Override
+    protected Health.Builder describe(Health.Builder builder) {
+        return builder.withDetail("broker", "RabbitMQ");
+    }
+}
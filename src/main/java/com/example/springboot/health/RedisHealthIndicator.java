@@ -0,0 +1,36 @@
+package com.example.springboot.health;
+
+import com.example.springboot.concurrency.DependencyGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pings through {@link RedisTemplate#execute} so the connection is always released, unlike
+ * fetching one from the factory directly.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisHealthIndicator extends CachedHealthIndicator {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DependencyGuard dependencyGuard;
+
+    @Override
+    protected Health check() {
+        String result = dependencyGuard.call("redis",
+                () -> redisTemplate.execute((RedisCallback<String>) RedisConnection::ping));
+        if ("PONG".equals(result)) {
+            return describe(Health.up()).withDetail("status", "Connected").build();
+        }
+        return describe(Health.down()).withDetail("status", "Ping failed").build();
+    }
+
+    @Override
+    protected Health.Builder describe(Health.Builder builder) {
+        return builder.withDetail("cache", "Redis");
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.springboot.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * {@link AsyncAppender} that, once the queue crosses its discarding threshold, only sheds
+ * TRACE and DEBUG events. The stock appender also drops INFO, which would lose request
+ * and audit lines exactly when we need them most.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.springboot.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one in {@code sampleRate} statements from the Hibernate SQL logger, together with
+ * the parameter bindings that follow a sampled statement on the same thread, and denies the rest.
+ * Hibernate renders each bound value and formats the bind line only after
+ * {@code isTraceEnabled()} returns true, so bind loggers also have their level checks denied
+ * unless the current statement was sampled; an unsampled statement costs no bind formatting.
+ * Statement level checks ({@code isDebugEnabled()}) and other loggers are left to the normal
+ * level configuration, so the SQL loggers must be enabled ({@code org.hibernate.SQL} at DEBUG,
+ * {@code org.hibernate.orm.jdbc.bind} at TRACE) for samples to appear.
+ */
+public class SqlLogSamplingTurboFilter extends TurboFilter {
+
+    private static final String STATEMENT_LOGGER = "org.hibernate.SQL";
+
+    private static final String[] BIND_LOGGERS = {
+            "org.hibernate.orm.jdbc.bind",
+            "org.hibernate.type.descriptor.sql"
+    };
+
+    private final AtomicLong counter = new AtomicLong();
+    private final ThreadLocal<Boolean> statementSampled = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private int sampleRate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        String name = logger.getName();
+        if (isBindLogger(name)) {
+            // level checks included: this is what keeps Hibernate from rendering unsampled binds
+            return statementSampled.get() ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+        if (format == null || t != null || !name.startsWith(STATEMENT_LOGGER)) {
+            return FilterReply.NEUTRAL;
+        }
+        boolean sampled = counter.getAndIncrement() % sampleRate == 0;
+        statementSampled.set(sampled);
+        return sampled ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private static boolean isBindLogger(String name) {
+        for (String prefix : BIND_LOGGERS) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.springboot.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Exact amount as a count of the currency's minor unit (cents for USD, yen for JPY). Prices
+ * compare, sort and index as plain integers and never pick up binary floating-point error; the
+ * decimal form only exists at the API edge.
+ */
+@Embeddable
+@JsonSerialize(using = MoneySerializer.class)
+public record Money(
+        @Column(name = "amount_minor", nullable = false) long amountMinor,
+        @Convert(converter = CurrencyConverter.class)
+        @Column(name = "currency", length = 3, nullable = false) Currency currency
+) implements Comparable<Money> {
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money ofMinor(long amountMinor, Currency currency) {
+        return new Money(amountMinor, currency);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code amount} has more decimals than the currency allows
+     *                                  or does not fit in a {@code long} of minor units
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        try {
+            long minor = amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+            return new Money(minor, currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString() + " is not representable in "
+                    + currency.getCurrencyCode(), e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException for unknown codes and for currencies without minor units
+     *                                  (such as XAU), which cannot be priced in this model
+     */
+    public static Currency currency(String code) {
+        Currency currency = Currency.getInstance(code.toUpperCase(Locale.ROOT));
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency " + code + " has no minor unit");
+        }
+        return currency;
+    }
+
+    public BigDecimal toDecimal() {
+        return BigDecimal.valueOf(amountMinor, currency.getDefaultFractionDigits());
+    }
+
+    /** Lossy; only for consumers that cannot take a decimal, such as legacy gRPC clients. */
+    public double toDouble() {
+        return toDecimal().doubleValue();
+    }
+
+    public boolean isPositive() {
+        return amountMinor > 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot compare " + currency + " with " + other.currency);
+        }
+        return Long.compare(amountMinor, other.amountMinor);
+    }
+
+    @Override
+    public String toString() {
+        return toDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+}
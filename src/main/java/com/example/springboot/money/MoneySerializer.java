@@ -0,0 +1,40 @@
+package com.example.springboot.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link Money} as a bare JSON number with exactly the currency's decimals ({@code 999.99},
+ * {@code 1000.00}), so the wire format of {@code price} stays what clients already parse. The
+ * currency travels in a sibling {@code currency} field.
+ */
+public class MoneySerializer extends StdSerializer<Money> {
+
+    public MoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(format(value.amountMinor(), value.currency().getDefaultFractionDigits()));
+    }
+
+    /** Formats minor units with plain long arithmetic; no {@code BigDecimal} per value. */
+    static String format(long amountMinor, int fractionDigits) {
+        if (fractionDigits == 0) {
+            return Long.toString(amountMinor);
+        }
+        StringBuilder digits = new StringBuilder(20).append(Math.abs(amountMinor));
+        while (digits.length() <= fractionDigits) {
+            digits.insert(0, '0');
+        }
+        digits.insert(digits.length() - fractionDigits, '.');
+        if (amountMinor < 0) {
+            digits.insert(0, '-');
+        }
+        return digits.toString();
+    }
+}
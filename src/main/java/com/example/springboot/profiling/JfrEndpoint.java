@@ -0,0 +1,84 @@
+package com.example.springboot.profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controls for on-demand JFR recordings plus the top allocation sites from the event stream.
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} lists recordings and allocation sites</li>
+ *   <li>{@code POST /actuator/jfr} with {@code settings} and {@code durationSeconds} starts one</li>
+ *   <li>{@code POST /actuator/jfr/{id}} stops it, {@code GET /actuator/jfr/{id}} downloads it</li>
+ *   <li>{@code DELETE /actuator/jfr/{id}} discards it</li>
+ * </ul>
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private static final int TOP_SITES = 20;
+
+    private final JfrRecordingService recordingService;
+    private final JfrEventStreamer eventStreamer;
+
+    @ReadOperation
+    public Map<String, Object> overview() {
+        return Map.of(
+                "recordings", recordingService.list(),
+                "allocationSites", eventStreamer.topAllocationSites(TOP_SITES));
+    }
+
+    @WriteOperation
+    public JfrRecordingService.RecordingInfo start(@Nullable String settings, @Nullable Long durationSeconds) {
+        return recordingService.start(settings, durationSeconds != null ? Duration.ofSeconds(durationSeconds) : null);
+    }
+
+    @WriteOperation
+    public JfrRecordingService.RecordingInfo stop(@Selector long id) {
+        return recordingService.stop(id);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) throws IOException {
+        Path file = recordingService.dump(id);
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    @DeleteOperation
+    public List<JfrRecordingService.RecordingInfo> delete(@Selector long id) {
+        recordingService.delete(id);
+        return recordingService.list();
+    }
+
+    /** Deletes the dumped file once the response has been streamed. */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(getFile().toPath(), StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.springboot.profiling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on, in-process JFR event stream turned into Micrometer metrics: sampled allocation by
+ * site, contended monitor enters, GC pauses and virtual-thread pinning. Allocation uses the
+ * throttled {@code jdk.ObjectAllocationSample} event and the others only fire above a duration
+ * threshold, which keeps overhead well under 1%.
+ */
+@Slf4j
+@Component
+public class JfrEventStreamer implements SmartLifecycle {
+
+    private static final String OTHER_SITE = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String allocationThrottle;
+    private final Duration lockThreshold;
+    private final Duration pinnedThreshold;
+    private final int maxSites;
+    private final String applicationPackage;
+
+    private final Map<String, LongAdder> allocationBySite = new ConcurrentHashMap<>();
+    private final Map<String, Counter> allocationCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> monitorTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> gcTimers = new ConcurrentHashMap<>();
+    private final Timer pinnedTimer;
+    private volatile RecordingStream stream;
+
+    public JfrEventStreamer(MeterRegistry meterRegistry,
+                            @Value("${app.profiling.streaming.enabled:true}") boolean enabled,
+                            @Value("${app.profiling.streaming.allocation-throttle:100/s}") String allocationThrottle,
+                            @Value("${app.profiling.streaming.lock-threshold:10ms}") Duration lockThreshold,
+                            @Value("${app.profiling.streaming.pinned-threshold:20ms}") Duration pinnedThreshold,
+                            @Value("${app.profiling.streaming.max-sites:50}") int maxSites) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.allocationThrottle = allocationThrottle;
+        this.lockThreshold = lockThreshold;
+        this.pinnedThreshold = pinnedThreshold;
+        this.maxSites = maxSites;
+        this.applicationPackage = JfrEventStreamer.class.getPackageName().replace(".profiling", "") + ".";
+        this.pinnedTimer = Timer.builder("jfr.virtual_thread.pinned").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        RecordingStream rs = new RecordingStream();
+        rs.enable("jdk.ObjectAllocationSample").with("throttle", allocationThrottle).withStackTrace();
+        rs.enable("jdk.JavaMonitorEnter").withThreshold(lockThreshold).withStackTrace();
+        rs.enable("jdk.GarbageCollection");
+        rs.enable("jdk.VirtualThreadPinned").withThreshold(pinnedThreshold).withStackTrace();
+        rs.setMaxAge(Duration.ofSeconds(30));
+        rs.onEvent("jdk.ObjectAllocationSample", this::onAllocation);
+        rs.onEvent("jdk.JavaMonitorEnter", this::onMonitorEnter);
+        rs.onEvent("jdk.GarbageCollection", this::onGarbageCollection);
+        rs.onEvent("jdk.VirtualThreadPinned", event -> pinnedTimer.record(event.getDuration()));
+        rs.onError(e -> log.warn("JFR event stream error: {}", e.getMessage()));
+        rs.startAsync();
+        stream = rs;
+        log.info("JFR event streaming started (allocation throttle {})", allocationThrottle);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /** Sampled allocation weight per site since start, heaviest first. */
+    public Map<String, Long> topAllocationSites(int limit) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        allocationBySite.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private void onAllocation(RecordedEvent event) {
+        String site = site(event.getStackTrace());
+        long weight = event.getLong("weight");
+        allocationBySite.computeIfAbsent(site, s -> new LongAdder()).add(weight);
+        allocationCounters.computeIfAbsent(site, s -> Counter.builder("jfr.allocation.sampled")
+                        .baseUnit("bytes")
+                        .tag("site", s)
+                        .register(meterRegistry))
+                .increment(weight);
+    }
+
+    private void onMonitorEnter(RecordedEvent event) {
+        String monitorClass = event.getClass("monitorClass") != null ? event.getClass("monitorClass").getName() : "unknown";
+        timer(monitorTimers, "jfr.monitor.contended", "class", monitorClass).record(event.getDuration());
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        timer(gcTimers, "jfr.gc.pause", "gc", event.getString("name")).record(event.getDuration("sumOfPauses"));
+    }
+
+    private Timer timer(Map<String, Timer> timers, String name, String tagKey, String tagValue) {
+        String key = timers.size() >= maxSites && !timers.containsKey(tagValue) ? OTHER_SITE : tagValue;
+        return timers.computeIfAbsent(key, k -> Timer.builder(name).tag(tagKey, k).register(meterRegistry));
+    }
+
+    /**
+     * Attributes an allocation to the innermost application frame, since the top frame is usually
+     * a JDK helper such as {@code Arrays.copyOf}. Distinct sites are capped to bound metric cardinality.
+     */
+    private String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return OTHER_SITE;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame chosen = frames.get(0);
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(applicationPackage)) {
+                chosen = frame;
+                break;
+            }
+        }
+        String site = chosen.getMethod().getType().getName() + "." + chosen.getMethod().getName();
+        if (allocationCounters.size() >= maxSites && !allocationCounters.containsKey(site)) {
+            return OTHER_SITE;
+        }
+        return site;
+    }
+}
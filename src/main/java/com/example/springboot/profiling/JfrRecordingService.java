@@ -0,0 +1,140 @@
+package com.example.springboot.profiling;
+
+import com.example.springboot.exception.ValidationException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-demand JFR recordings for deeper investigation than the streamed metrics allow. Every
+ * recording is bounded in duration and size, and only a few may exist at once, so a forgotten
+ * recording cannot fill the disk.
+ */
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final int maxRecordings;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    public JfrRecordingService(@Value("${app.profiling.recordings.max-duration:10m}") Duration maxDuration,
+                               @Value("${app.profiling.recordings.max-size-mb:100}") long maxSizeMb,
+                               @Value("${app.profiling.recordings.max-count:2}") int maxRecordings) {
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxRecordings = maxRecordings;
+    }
+
+    public synchronized RecordingInfo start(String settings, Duration duration) {
+        String configName = settings != null ? settings : "default";
+        if (!SETTINGS.contains(configName)) {
+            throw new ValidationException("settings must be one of " + SETTINGS);
+        }
+        Duration bounded = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        if (bounded.isNegative() || bounded.isZero()) {
+            throw new ValidationException("duration must be positive");
+        }
+        if (recordings.size() >= maxRecordings) {
+            throw new ValidationException("At most " + maxRecordings + " recordings may exist; delete one first");
+        }
+
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(configName));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR configuration " + configName, e);
+        }
+        recording.setName("api-" + configName + "-" + Instant.now().getEpochSecond());
+        recording.setToDisk(true);
+        recording.setDuration(bounded);
+        recording.setMaxSize(maxSizeBytes);
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        log.info("Started JFR recording {} ({}, {})", recording.getId(), configName, bounded);
+        return RecordingInfo.of(recording);
+    }
+
+    public RecordingInfo stop(long id) {
+        Recording recording = get(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return RecordingInfo.of(recording);
+    }
+
+    /** Writes the recording to a temporary file; the caller is responsible for deleting it. */
+    public Path dump(long id) throws IOException {
+        Recording recording = get(id);
+        Path file = Files.createTempFile("recording-" + id + "-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    public void delete(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public List<RecordingInfo> list() {
+        return recordings.values().stream().map(RecordingInfo::of).toList();
+    }
+
+    @PreDestroy
+    void closeAll() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    private Recording get(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new ValidationException("No recording with id " + id);
+        }
+        return recording;
+    }
+
+    @Data
+    @Builder
+    public static class RecordingInfo {
+        private long id;
+        private String name;
+        private String state;
+        private Instant startTime;
+        private Duration duration;
+        private long sizeBytes;
+
+        static RecordingInfo of(Recording recording) {
+            return RecordingInfo.builder()
+                    .id(recording.getId())
+                    .name(recording.getName())
+                    .state(recording.getState().name())
+                    .startTime(recording.getStartTime())
+                    .duration(recording.getDuration())
+                    .sizeBytes(recording.getSize())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.springboot.ratelimit;
+
+import com.example.springboot.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limiting, placed after JWT authentication in the security chain so routes keyed
+ * by user see the authenticated principal. IP keys rely on {@code server.forward-headers-strategy}
+ * so {@code getRemoteAddr()} is the client behind nginx, not the proxy.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitProperties.Route route = match(request.getRequestURI());
+        if (route != null) {
+            long waitNanos = rateLimitService.tryAcquire(route, clientKey(route, request));
+            if (waitNanos > 0) {
+                reject(request, response, route, waitNanos);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Route match(String uri) {
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (pathMatcher.match(route.getPattern(), uri)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(RateLimitProperties.Route route, HttpServletRequest request) {
+        if (route.getKey() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        RateLimitProperties.Route route, long waitNanos) throws IOException {
+        log.debug("Rate limited {} on route {}", request.getRemoteAddr(), route.getName());
+        meterRegistry.counter("ratelimit.rejected", "route", route.getName()).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded, retry after " + retryAfterSeconds + "s")
+                .path("uri=" + request.getRequestURI())
+                .build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.springboot.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** {@code local} keeps buckets per instance; {@code redis} shares them across instances. */
+    private Mode mode = Mode.LOCAL;
+
+    /** Upper bound on tracked clients per route; least recently seen keys are evicted first. */
+    private long maxTrackedKeys = 100_000;
+
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    /** Tokens taken from Redis in one script call and spent locally before asking again. */
+    private int leaseSize = 5;
+
+    /** Unspent leased tokens are dropped after this long so idle nodes don't hoard capacity. */
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    /** Evaluated in order; the first matching pattern applies. */
+    private List<Route> routes = new ArrayList<>();
+
+    public enum Mode {
+        LOCAL, REDIS
+    }
+
+    public enum KeyType {
+        USER, IP
+    }
+
+    @Data
+    public static class Route {
+        private String name;
+        private String pattern;
+        private int capacity = 100;
+        private double refillPerSecond = 50;
+        /** USER falls back to the client IP for unauthenticated requests. */
+        private KeyType key = KeyType.USER;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.springboot.ratelimit;
+
+import com.example.springboot.concurrency.DependencyGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token-bucket admission per route and client. In {@code redis} mode buckets live in Redis and are
+ * drawn down by a Lua script a lease of several tokens at a time, so most requests are decided
+ * locally; if Redis is unavailable the local buckets take over.
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private final RateLimitProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final DependencyGuard dependencyGuard;
+    private final RedisScript<Long> tokenBucketScript =
+            RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+    private final Cache<String, TokenBucket> buckets;
+    private final Cache<String, Lease> leases;
+
+    public RateLimitService(RateLimitProperties properties, StringRedisTemplate redisTemplate,
+                            DependencyGuard dependencyGuard) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.dependencyGuard = dependencyGuard;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+    }
+
+    /**
+     * @return 0 if the request is admitted, otherwise nanoseconds until the client may retry
+     */
+    public long tryAcquire(RateLimitProperties.Route route, String clientKey) {
+        String key = route.getName() + ":" + clientKey;
+        if (properties.getMode() == RateLimitProperties.Mode.REDIS) {
+            try {
+                return acquireDistributed(route, key);
+            } catch (RuntimeException e) {
+                log.debug("Distributed rate limit unavailable, using local bucket for {}: {}", key, e.getMessage());
+            }
+        }
+        long now = System.nanoTime();
+        return buckets.get(key, k -> new TokenBucket(route.getCapacity(), route.getRefillPerSecond(), now))
+                .tryAcquire(now);
+    }
+
+    private long acquireDistributed(RateLimitProperties.Route route, String key) {
+        Lease lease = leases.get(key, k -> new Lease());
+        long wait = lease.tryTake(System.nanoTime());
+        if (wait >= 0) {
+            return wait;
+        }
+        lease.refillLock.lock();
+        try {
+            long now = System.nanoTime();
+            // another thread may have refilled while we waited for the lock
+            wait = lease.tryTake(now);
+            if (wait >= 0) {
+                return wait;
+            }
+            int batch = Math.min(properties.getLeaseSize(), route.getCapacity());
+            Long result = dependencyGuard.call("redis", () -> redisTemplate.execute(tokenBucketScript,
+                    List.of(KEY_PREFIX + key),
+                    String.valueOf(route.getCapacity()),
+                    String.valueOf(route.getRefillPerSecond() / 1000.0),
+                    String.valueOf(batch)));
+            if (result == null) {
+                throw new IllegalStateException("Rate limit script returned no result");
+            }
+            if (result > 0) {
+                lease.grant((int) (result - 1), now + properties.getLeaseTtl().toNanos());
+                return 0;
+            }
+            long retryAfter = TimeUnit.MILLISECONDS.toNanos(-result);
+            lease.deny(now + retryAfter);
+            return retryAfter;
+        } finally {
+            lease.refillLock.unlock();
+        }
+    }
+
+    /** Tokens already taken from Redis for one key, plus a cached denial so rejected clients don't hit Redis either. */
+    private static final class Lease {
+        private final ReentrantLock refillLock = new ReentrantLock();
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile long expiresAt;
+        private volatile long retryAt;
+        private volatile boolean denied;
+
+        /** @return 0 if a token was taken, a positive wait while denied, or -1 if Redis must be asked */
+        long tryTake(long now) {
+            if (denied) {
+                if (retryAt - now > 0) {
+                    return retryAt - now;
+                }
+                denied = false;
+            }
+            if (now - expiresAt > 0) {
+                return -1;
+            }
+            while (true) {
+                int current = remaining.get();
+                if (current <= 0) {
+                    return -1;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return 0;
+                }
+            }
+        }
+
+        void grant(int tokens, long expiresAt) {
+            this.expiresAt = expiresAt;
+            this.remaining.set(tokens);
+            this.denied = false;
+        }
+
+        void deny(long retryAt) {
+            this.retryAt = retryAt;
+            this.denied = true;
+        }
+    }
+}
@@ -1,27 +1,113 @@
 package com.example.springboot.repository;
 
 import com.example.springboot.entity.Product;
+import com.example.springboot.money.Money;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Product> findByIsActiveTrue();
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Product> findByIsActiveTrue(Pageable pageable);
     
+    <T> List<T> findByIsActiveTrue(Class<T> type);
+    
+    <T> Page<T> findByIsActiveTrue(Pageable pageable, Class<T> type);
+    
     Optional<Product> findByIdAndIsActiveTrue(Long id);
     
+    boolean existsByIdAndIsActiveTrue(Long id);
+    
+    /**
+     * Compare-and-set price change in one round trip: no prior SELECT, and an empty result when the
+     * product is missing or its version has moved on. Rows are the updated product followed by the
+     * replaced price's minor amount and currency; see the named query on {@link Product}.
+     */
+    List<Object[]> updatePriceReturningPrevious(Long id, long version, long priceMinor, String currency,
+                                                LocalDateTime updatedAt);
+    
+    default Optional<PriceUpdate> updatePriceIfVersionMatches(Long id, long version, Money price, LocalDateTime updatedAt) {
+        return updatePriceReturningPrevious(id, version, price.amountMinor(), price.currency().getCurrencyCode(), updatedAt)
+                .stream()
+                .findFirst()
+                .map(row -> new PriceUpdate((Product) row[0],
+                        Money.ofMinor((Long) row[1], Currency.getInstance((String) row[2]))));
+    }
+    
+    /** Result of {@link #updatePriceIfVersionMatches}: the updated product and the price it replaced. */
+    record PriceUpdate(Product product, Money previousPrice) {
+    }
+    
+    /** Keyset page of active products: the next {@code limit} rows with an id above {@code afterId}. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Product> findByIdGreaterThanAndIsActiveTrueOrderByIdAsc(Long afterId, Limit limit);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Product> findByIdInAndIsActiveTrue(Collection<Long> ids);
+    
+    /**
+     * The oldest {@code first} active products of each creator, ordered by creator then id. The
+     * per-creator limit is applied in the database, so prolific creators don't inflate the read.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT p.* FROM products p WHERE p.id IN ("
+            + "SELECT ranked.id FROM (SELECT id, row_number() OVER (PARTITION BY created_by ORDER BY id) AS rn "
+            + "FROM products WHERE created_by IN (:userIds) AND is_active = true) ranked WHERE ranked.rn <= :first) "
+            + "ORDER BY p.created_by, p.id", nativeQuery = true)
+    List<Product> findFirstActiveByCreators(@Param("userIds") Collection<Long> userIds, @Param("first") int first);
+    
+    /**
+     * Fingerprint of the whole table: inserts change the count and every update, soft deletes
+     * included, bumps a version, so any change alters the pair.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT COUNT(p) AS rowCount, COALESCE(SUM(p.version), 0) AS versionSum, "
+            + "MAX(p.updatedAt) AS lastUpdatedAt FROM Product p")
+    CatalogFingerprint findCatalogFingerprint();
+    
     @Query("SELECT p FROM Product p WHERE p.isActive = true AND LOWER(p.name) LIKE LOWER(CONCAT('%', ?1, '%'))")
     List<Product> findActiveProductsByNameContainingIgnoreCase(String name);
     
-    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.price BETWEEN ?1 AND ?2")
-    List<Product> findActiveProductsByPriceRange(Double minPrice, Double maxPrice);
+    /**
+     * Inclusive price band in one currency, cheapest first; a plain integer range scan on
+     * {@code (currency, price_minor)}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.price.currency = ?1 "
+            + "AND p.price.amountMinor BETWEEN ?2 AND ?3 ORDER BY p.price.amountMinor")
+    List<Product> findActiveProductsByPriceRange(Currency currency, long minPriceMinor, long maxPriceMinor);
+    
+    default List<Product> findActiveProductsByPriceRange(Money minPrice, Money maxPrice) {
+        if (!minPrice.currency().equals(maxPrice.currency())) {
+            throw new IllegalArgumentException("Price range bounds must share a currency");
+        }
+        return findActiveProductsByPriceRange(minPrice.currency(), minPrice.amountMinor(), maxPrice.amountMinor());
+    }
+    
+    interface CatalogFingerprint {
+        long getRowCount();
+        
+        long getVersionSum();
+        
+        LocalDateTime getLastUpdatedAt();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.example.springboot.repository.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.example.springboot.entity.cassandra.AuditLogEntry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Prepared-statement access to {@code audit_logs_by_user}. Every statement binds the
+ * full partition key, so the driver routes each request straight to a replica.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogRepository {
+
+    private final CqlSession session;
+
+    private PreparedStatement insertStatement;
+    private PreparedStatement selectSinceStatement;
+
+    @PostConstruct
+    void prepareStatements() {
+        insertStatement = session.prepare(
+                "INSERT INTO audit_logs_by_user (user_id, day, event_id, action, resource_type, resource_id, details) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)");
+        selectSinceStatement = session.prepare(
+                "SELECT user_id, day, event_id, action, resource_type, resource_id, details "
+                        + "FROM audit_logs_by_user WHERE user_id = ? AND day = ? AND event_id >= ?");
+    }
+
+    public CompletionStage<AsyncResultSet> saveAsync(AuditLogEntry entry) {
+        BoundStatement statement = insertStatement.bind(
+                        entry.getUserId(),
+                        entry.getDay(),
+                        entry.getEventId(),
+                        entry.getAction(),
+                        entry.getResourceType(),
+                        entry.getResourceId(),
+                        entry.getDetails())
+                .setIdempotent(true);
+        return session.executeAsync(statement);
+    }
+
+    public CompletionStage<AuditLogSlice> findByUserAndDay(String userId, LocalDate day, Instant since,
+                                                           ByteBuffer pagingState, int pageSize) {
+        BoundStatement statement = selectSinceStatement.bind(userId, day, Uuids.startOf(since.toEpochMilli()))
+                .setPageSize(pageSize)
+                .setPagingState(pagingState);
+        return session.executeAsync(statement).thenApply(this::toSlice);
+    }
+
+    private AuditLogSlice toSlice(AsyncResultSet resultSet) {
+        List<AuditLogEntry> entries = new ArrayList<>(resultSet.remaining());
+        for (Row row : resultSet.currentPage()) {
+            entries.add(mapRow(row));
+        }
+        ByteBuffer next = resultSet.hasMorePages() ? resultSet.getExecutionInfo().getPagingState() : null;
+        return new AuditLogSlice(entries, next);
+    }
+
+    private AuditLogEntry mapRow(Row row) {
+        UUID eventId = row.getUuid("event_id");
+        return AuditLogEntry.builder()
+                .userId(row.getString("user_id"))
+                .day(row.getLocalDate("day"))
+                .eventId(eventId)
+                .timestamp(Instant.ofEpochMilli(Uuids.unixTimestamp(eventId)))
+                .action(row.getString("action"))
+                .resourceType(row.getString("resource_type"))
+                .resourceId(row.getString("resource_id"))
+                .details(row.getString("details"))
+                .build();
+    }
+
+    public record AuditLogSlice(List<AuditLogEntry> entries, ByteBuffer pagingState) {
+    }
+}
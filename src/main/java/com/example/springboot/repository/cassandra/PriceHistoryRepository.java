@@ -0,0 +1,140 @@
+package com.example.springboot.repository.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.example.springboot.entity.cassandra.PriceChange;
+import com.example.springboot.entity.cassandra.PriceRollup;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Prepared-statement access to {@code product_price_history} and {@code product_price_rollups}.
+ * As with the audit log, every statement binds the full partition key.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PriceHistoryRepository {
+
+    private final CqlSession session;
+
+    private PreparedStatement insertChangeStatement;
+    private PreparedStatement selectChangesSinceStatement;
+    private PreparedStatement upsertRollupStatement;
+    private PreparedStatement selectRollupsStatement;
+
+    @PostConstruct
+    void prepareStatements() {
+        insertChangeStatement = session.prepare(
+                "INSERT INTO product_price_history (product_id, day, changed_at, price, previous_price, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)");
+        selectChangesSinceStatement = session.prepare(
+                "SELECT product_id, day, changed_at, price, previous_price, version "
+                        + "FROM product_price_history WHERE product_id = ? AND day = ? AND changed_at >= ?");
+        upsertRollupStatement = session.prepare(
+                "INSERT INTO product_price_rollups "
+                        + "(product_id, resolution, period_start, writer, min_price, max_price, sum_price, sample_count) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        selectRollupsStatement = session.prepare(
+                "SELECT period_start, writer, min_price, max_price, sum_price, sample_count FROM product_price_rollups "
+                        + "WHERE product_id = ? AND resolution = ? AND period_start >= ? AND period_start < ?");
+    }
+
+    public CompletionStage<AsyncResultSet> saveChangeAsync(PriceChange change) {
+        BoundStatement statement = insertChangeStatement.bind(
+                        change.getProductId(),
+                        change.getDay(),
+                        change.getChangedAt(),
+                        change.getPrice(),
+                        change.getPreviousPrice(),
+                        change.getVersion())
+                .setIdempotent(true);
+        return session.executeAsync(statement);
+    }
+
+    public CompletionStage<PriceChangeSlice> findChanges(Long productId, LocalDate day, Instant since,
+                                                         ByteBuffer pagingState, int pageSize) {
+        BoundStatement statement = selectChangesSinceStatement.bind(productId, day, Uuids.startOf(since.toEpochMilli()))
+                .setPageSize(pageSize)
+                .setPagingState(pagingState);
+        return session.executeAsync(statement).thenApply(this::toSlice);
+    }
+
+    /** Overwrites this writer's running aggregate for one period; safe to repeat. */
+    public CompletionStage<AsyncResultSet> saveRollupAsync(Long productId, PriceRollup.Resolution resolution,
+                                                          Instant periodStart, UUID writer, RollupPartial partial) {
+        BoundStatement statement = upsertRollupStatement.bind(
+                        productId, resolution.name(), periodStart, writer,
+                        partial.min(), partial.max(), partial.sum(), partial.count())
+                .setIdempotent(true);
+        return session.executeAsync(statement);
+    }
+
+    /** All writer rows with {@code from <= period_start < to}, newest period first. */
+    public CompletionStage<List<WriterRollup>> findRollupPartials(Long productId, PriceRollup.Resolution resolution,
+                                                                   Instant from, Instant to) {
+        BoundStatement statement = selectRollupsStatement.bind(productId, resolution.name(), from, to);
+        return session.executeAsync(statement).thenCompose(rs -> collect(rs, new ArrayList<>()));
+    }
+
+    private CompletionStage<List<WriterRollup>> collect(AsyncResultSet resultSet, List<WriterRollup> into) {
+        for (Row row : resultSet.currentPage()) {
+            into.add(new WriterRollup(row.getUuid("writer"), new RollupPartial(row.getInstant("period_start"),
+                    row.getDouble("min_price"), row.getDouble("max_price"), row.getDouble("sum_price"),
+                    row.getLong("sample_count"))));
+        }
+        return resultSet.hasMorePages()
+                ? resultSet.fetchNextPage().thenCompose(next -> collect(next, into))
+                : CompletableFuture.completedFuture(into);
+    }
+
+    private PriceChangeSlice toSlice(AsyncResultSet resultSet) {
+        List<PriceChange> changes = new ArrayList<>(resultSet.remaining());
+        for (Row row : resultSet.currentPage()) {
+            changes.add(mapRow(row));
+        }
+        ByteBuffer next = resultSet.hasMorePages() ? resultSet.getExecutionInfo().getPagingState() : null;
+        return new PriceChangeSlice(changes, next);
+    }
+
+    private PriceChange mapRow(Row row) {
+        UUID changedAt = row.getUuid("changed_at");
+        return PriceChange.builder()
+                .productId(row.getLong("product_id"))
+                .day(row.getLocalDate("day"))
+                .changedAt(changedAt)
+                .timestamp(Instant.ofEpochMilli(Uuids.unixTimestamp(changedAt)))
+                .price(row.getDouble("price"))
+                .previousPrice(row.isNull("previous_price") ? null : row.getDouble("previous_price"))
+                .version(row.isNull("version") ? null : row.getLong("version"))
+                .build();
+    }
+
+    public record PriceChangeSlice(List<PriceChange> changes, ByteBuffer pagingState) {
+    }
+
+    public record WriterRollup(UUID writer, RollupPartial partial) {
+    }
+
+    /** One writer's min/max/sum/count for a period; partials merge associatively. */
+    public record RollupPartial(Instant periodStart, double min, double max, double sum, long count) {
+
+        public RollupPartial merge(RollupPartial other) {
+            return new RollupPartial(periodStart, Math.min(min, other.min), Math.max(max, other.max),
+                    sum + other.sum, count + other.count);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.springboot.repository.mongo;
+
+import com.example.springboot.entity.mongo.ProductDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ProductReadRepository extends ReactiveMongoRepository<ProductDocument, String> {
+
+    Mono<ProductDocument> findByProductIdAndIsActiveTrue(Long productId);
+
+    @Meta(cursorBatchSize = 500)
+    Flux<ProductDocument> findByIsActiveTrueOrderByCreatedAtDesc();
+
+    Flux<ProductDocument> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
+
+    @Meta(cursorBatchSize = 500)
+    Flux<ProductDocument> findByIsActiveTrueAndCurrencyAndPriceMinorBetweenOrderByPriceMinorAsc(
+            String currency, long minPriceMinor, long maxPriceMinor);
+
+    Flux<ProductDocument> findByIsActiveTrueAndNameStartingWith(String prefix, Pageable pageable);
+}
@@ -1,23 +1,30 @@
 package com.example.springboot.security;
 
+import com.example.springboot.entity.User;
 import com.example.springboot.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
     private final UserRepository userRepository;
+    private final JwtService jwtService;
 
     @Bean
     public UserDetailsService userDetailsService() {
@@ -25,6 +32,15 @@ public class ApplicationConfig {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
+    /** Authenticated user's id for {@code @CreatedBy}; empty for unauthenticated system writes. */
+    @Bean
+    public AuditorAware<Long> auditorAware() {
+        return () -> Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                .map(Authentication::getPrincipal)
+                .filter(User.class::isInstance)
+                .map(principal -> ((User) principal).getId());
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -33,9 +49,14 @@ public class ApplicationConfig {
         return authProvider;
     }
 
+    /**
+     * Username/password logins, plus bearer JWTs presented outside the servlet filter chain (gRPC).
+     * The JWT provider is not a bean of its own, so the HTTP chain keeps using only
+     * {@link #authenticationProvider()}.
+     */
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-        return config.getAuthenticationManager();
+    public AuthenticationManager authenticationManager() {
+        return new ProviderManager(authenticationProvider(), new JwtAuthenticationProvider(jwtService, userDetailsService()));
     }
 
     @Bean
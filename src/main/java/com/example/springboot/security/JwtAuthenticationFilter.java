@@ -4,6 +4,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.example.springboot.timing.RequestTimings;
+import com.example.springboot.timing.Stage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
@@ -42,12 +44,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         jwt = authHeader.substring(7);
         try {
+            long authStart = RequestTimings.start();
             username = jwtService.extractUsername(jwt);
+            RequestTimings.stop(Stage.AUTH, authStart);
             
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                long lookupStart = RequestTimings.start();
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                RequestTimings.stop(Stage.USER_LOOKUP, lookupStart);
                 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                long validateStart = RequestTimings.start();
+                boolean tokenValid = jwtService.isTokenValid(jwt, userDetails);
+                RequestTimings.stop(Stage.AUTH, validateStart);
+                if (tokenValid) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -0,0 +1,66 @@
+package com.example.springboot.security;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+
+/**
+ * Authenticates a raw bearer JWT with the same checks {@link JwtAuthenticationFilter} applies to
+ * HTTP requests. Used for callers that don't go through the servlet filter chain, such as gRPC.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationProvider implements AuthenticationProvider {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String jwt = ((BearerToken) authentication).getCredentials();
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+            if (!jwtService.isTokenValid(jwt, userDetails)) {
+                throw new BadCredentialsException("Invalid or expired token");
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid or expired token", e);
+        }
+        return UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return BearerToken.class.isAssignableFrom(authentication);
+    }
+
+    /** An unverified bearer token as read from the request. */
+    public static class BearerToken extends AbstractAuthenticationToken {
+
+        private final String token;
+
+        public BearerToken(String token) {
+            super(List.of());
+            this.token = token;
+        }
+
+        @Override
+        public String getCredentials() {
+            return token;
+        }
+
+        @Override
+        public Object getPrincipal() {
+            return null;
+        }
+    }
+}
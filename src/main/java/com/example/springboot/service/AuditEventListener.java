@@ -0,0 +1,39 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.event.UserRegisteredEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes committed product and user mutations to the audit store. Product changes are filed under
+ * the acting user; a registration under the new account itself.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditEventListener {
+
+    static final String SYSTEM_USER = "system";
+
+    private final AuditLogService auditLogService;
+    private final AuditorAware<Long> auditorAware;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductResponse product = event.product();
+        String actor = auditorAware.getCurrentAuditor().map(String::valueOf).orElse(SYSTEM_USER);
+        String details = "name=" + product.getName()
+                + ", price=" + product.getPrice().toDecimal().toPlainString() + " " + product.getCurrency()
+                + ", version=" + product.getVersion();
+        auditLogService.record(actor, event.type().name(), "product", String.valueOf(product.getId()), details);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        String userId = String.valueOf(event.userId());
+        auditLogService.record(userId, "REGISTERED", "user", userId, "username=" + event.username());
+    }
+}
@@ -1 +1,94 @@
- 
\ No newline at end of file
+package com.example.springboot.service;
+
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.example.springboot.dto.AuditLogPageResponse;
+import com.example.springboot.entity.cassandra.AuditLogEntry;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.repository.cassandra.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditLogService {
+
+    private final AuditLogRepository auditLogRepository;
+
+    @Value("${app.cassandra.audit.max-page-size:500}")
+    private int maxPageSize = 500;
+
+    public CompletableFuture<Void> record(String userId, String action, String resourceType,
+                                          String resourceId, String details) {
+        UUID eventId = Uuids.timeBased();
+        AuditLogEntry entry = AuditLogEntry.builder()
+                .userId(userId)
+                .day(dayBucket(Instant.ofEpochMilli(Uuids.unixTimestamp(eventId))))
+                .eventId(eventId)
+                .action(action)
+                .resourceType(resourceType)
+                .resourceId(resourceId)
+                .details(details)
+                .build();
+        return auditLogRepository.saveAsync(entry)
+                .<Void>thenApply(rs -> null)
+                .exceptionally(ex -> {
+                    log.error("Failed to write audit log for user {}: {}", userId, ex.getMessage());
+                    return null;
+                })
+                .toCompletableFuture();
+    }
+
+    public CompletableFuture<AuditLogPageResponse> getUserHistory(String userId, LocalDate day, Instant since,
+                                                                  String pageToken, int pageSize) {
+        if (pageSize <= 0 || pageSize > maxPageSize) {
+            throw new ValidationException("Page size must be between 1 and " + maxPageSize);
+        }
+        LocalDate bucket = day != null ? day : dayBucket(since != null ? since : Instant.now());
+        Instant lowerBound = since != null && dayBucket(since).equals(bucket)
+                ? since
+                : bucket.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        return auditLogRepository.findByUserAndDay(userId, bucket, lowerBound, decodePageToken(pageToken), pageSize)
+                .thenApply(slice -> AuditLogPageResponse.builder()
+                        .entries(slice.entries())
+                        .nextPageToken(encodePageToken(slice.pagingState()))
+                        .build())
+                .toCompletableFuture();
+    }
+
+    static LocalDate dayBucket(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private ByteBuffer decodePageToken(String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+        try {
+            return ByteBuffer.wrap(Base64.getUrlDecoder().decode(pageToken));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid page token", e);
+        }
+    }
+
+    private String encodePageToken(ByteBuffer pagingState) {
+        if (pagingState == null) {
+            return null;
+        }
+        ByteBuffer copy = pagingState.duplicate();
+        byte[] bytes = new byte[copy.remaining()];
+        copy.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
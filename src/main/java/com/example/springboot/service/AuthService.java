@@ -4,11 +4,13 @@ import com.example.springboot.dto.AuthRequest;
 import com.example.springboot.dto.AuthResponse;
 import com.example.springboot.dto.RegisterRequest;
 import com.example.springboot.entity.User;
+import com.example.springboot.event.UserRegisteredEvent;
 import com.example.springboot.exception.ValidationException;
 import com.example.springboot.repository.UserRepository;
 import com.example.springboot.security.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +27,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthResponse register(RegisterRequest request) {
         log.info("Registering new user: {}", request.getUsername());
@@ -46,6 +49,7 @@ public class AuthService {
         
         User savedUser = userRepository.save(user);
         log.info("User registered successfully: {}", savedUser.getUsername());
+        eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getId(), savedUser.getUsername()));
         
         return generateAuthResponse(savedUser);
     }
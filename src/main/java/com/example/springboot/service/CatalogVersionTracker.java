@@ -0,0 +1,186 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.exception.PreconditionFailedException;
+import com.example.springboot.repository.ProductRepository;
+import com.example.springboot.repository.ProductRepository.CatalogFingerprint;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Validators for conditional requests on the product endpoints. The catalog version is derived from
+ * the data (row count and the sum of row versions, which every insert or update changes), so all
+ * instances agree on it and a write through any node changes it everywhere. It is re-read at most
+ * every {@code app.http-cache.catalog-version-refresh}, and right after a local change.
+ * <p>
+ * When a re-read shows a change this instance did not make, its product caches are dropped too,
+ * so the new ETag is never paired with a row cached before the change. Local changes clear them
+ * here, after commit, because {@code @CacheEvict} runs inside the transaction: a concurrent read
+ * could otherwise re-cache the pre-commit row under the new version.
+ * <p>
+ * Single products are validated per id: {@link #productValidator} keeps each product's version and
+ * Last-Modified, filled when the product is loaded and evicted only when that product changes, so
+ * revalidating an unchanged product answers 304 without the database or the byte cache even while
+ * other products are being written. A fill that overlaps an eviction of its id is dropped, the same
+ * generation guard the product cache uses.
+ */
+@Slf4j
+@Component
+public class CatalogVersionTracker {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final CacheManager cacheManager;
+    private final ProductRepository productRepository;
+    private final long refreshNanos;
+    private final Object refreshLock = new Object();
+    private final com.github.benmanes.caffeine.cache.Cache<Long, ProductValidator> productValidators;
+    private final AtomicLongArray validatorGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private volatile CatalogVersion current;
+
+    public CatalogVersionTracker(CacheManager cacheManager, ProductRepository productRepository,
+                                 @Value("${app.http-cache.catalog-version-refresh:1s}") Duration refreshInterval,
+                                 @Value("${app.http-cache.product-validators:100000}") long maxProductValidators) {
+        this.cacheManager = cacheManager;
+        this.productRepository = productRepository;
+        this.refreshNanos = refreshInterval.toNanos();
+        this.productValidators = Caffeine.newBuilder().maximumSize(maxProductValidators).build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict("products", null);
+        evict("product", event.product().getId());
+        evictValidator(event.product().getId());
+        current = null;
+    }
+
+    /**
+     * Version and Last-Modified of one product. Served from memory while the product is unchanged;
+     * otherwise {@code loader} is called (normally a product cache hit) and the result remembered.
+     */
+    public ProductValidator productValidator(Long id, Function<Long, ProductResponse> loader) {
+        catalogVersion(); // notices changes made through other instances
+        ProductValidator validator = productValidators.getIfPresent(id);
+        if (validator != null) {
+            return validator;
+        }
+        int stripe = stripe(id);
+        long generation = validatorGenerations.get(stripe);
+        validator = ProductValidator.of(loader.apply(id));
+        productValidators.put(id, validator);
+        if (validatorGenerations.get(stripe) != generation) {
+            // the product changed while it was loading; don't keep what may be the old version
+            productValidators.asMap().remove(id, validator);
+        }
+        return validator;
+    }
+
+    /** ETag and Last-Modified of the product list, read together so they always match. */
+    public CatalogVersion catalogVersion() {
+        CatalogVersion version = current;
+        if (version != null && System.nanoTime() - version.readAt() < refreshNanos) {
+            return version;
+        }
+        synchronized (refreshLock) {
+            version = current;
+            if (version != null && System.nanoTime() - version.readAt() < refreshNanos) {
+                return version;
+            }
+            CatalogVersion next = CatalogVersion.of(productRepository.findCatalogFingerprint(), System.nanoTime());
+            if (version != null && !version.eTag().equals(next.eTag())) {
+                log.debug("Catalog changed elsewhere ({} -> {}), dropping local product caches", version.eTag(), next.eTag());
+                evict("products", null);
+                evict("product", null);
+                for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+                    validatorGenerations.incrementAndGet(stripe);
+                }
+                productValidators.invalidateAll();
+            }
+            current = next;
+            return next;
+        }
+    }
+
+    public static String productETag(Long id, Long version) {
+        return "\"product-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * Extracts the version from an {@code If-Match} header issued by {@link #productETag}. Returns
+     * {@code null} when the header is absent or {@code *}, i.e. the update is unconditional.
+     */
+    public static Long parseIfMatch(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"product-" + id + "-v";
+        String tag = ifMatch.trim();
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException("If-Match does not identify a version of product " + id);
+        }
+        try {
+            return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not identify a version of product " + id);
+        }
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void evictValidator(Long id) {
+        validatorGenerations.incrementAndGet(stripe(id));
+        productValidators.invalidate(id);
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    public record ProductValidator(Long version, String eTag, long lastModified) {
+
+        static ProductValidator of(ProductResponse product) {
+            return new ProductValidator(product.getVersion(), productETag(product.getId(), product.getVersion()),
+                    toEpochMillis(product.getUpdatedAt()));
+        }
+    }
+
+    public record CatalogVersion(String eTag, long lastModified, long readAt) {
+
+        static CatalogVersion of(CatalogFingerprint fingerprint, long readAt) {
+            long lastModified = toEpochMillis(fingerprint.getLastUpdatedAt());
+            return new CatalogVersion(
+                    "\"catalog-" + Long.toString(fingerprint.getRowCount(), 36)
+                            + "-" + Long.toString(fingerprint.getVersionSum(), 36) + "\"",
+                    lastModified < 0 ? -1 : lastModified / 1000 * 1000,
+                    readAt);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.springboot.service;
+
+import com.example.springboot.cache.CountMinSketch;
+import com.example.springboot.event.ProductChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Approximate access frequency per product id: a count-min sketch for the counts plus a bounded
+ * candidate set of the ids that looked hottest when they were last seen. Snapshots are written to
+ * {@code app.warmup.snapshot-file} so a freshly started instance knows what to preload.
+ */
+@Slf4j
+@Component
+public class HotProductTracker {
+
+    private static final int SNAPSHOT_MAGIC = 0x484F5431;
+
+    private final Path snapshotFile;
+    private final int candidateCapacity;
+    private final Map<Long, Long> candidates = new ConcurrentHashMap<>();
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    private volatile CountMinSketch sketch;
+
+    public HotProductTracker(
+            @Value("${app.warmup.snapshot-file:data/hot-products.bin}") Path snapshotFile,
+            @Value("${app.warmup.top-n:200}") int topN,
+            @Value("${app.warmup.sketch-width:4096}") int sketchWidth) {
+        this.snapshotFile = snapshotFile;
+        this.candidateCapacity = Math.max(16, topN * 4);
+        this.sketch = new CountMinSketch(4, sketchWidth);
+        loadSnapshot();
+    }
+
+    public void recordAccess(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        candidates.put(productId, sketch.increment(productId));
+        if (candidates.size() > candidateCapacity) {
+            prune();
+        }
+    }
+
+    public List<Long> hottest(int limit) {
+        return candidates.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public void forget(Long productId) {
+        candidates.remove(productId);
+    }
+
+    /** Deleted products drop out of the candidates so they are not warmed on the next start. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() == ProductChangedEvent.Type.DELETED) {
+            forget(event.product().getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.warmup.decay-interval:1h}", initialDelayString = "${app.warmup.decay-interval:1h}")
+    public void decay() {
+        CountMinSketch current = sketch;
+        current.decay();
+        candidates.replaceAll((id, count) -> current.estimate(id));
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.warmup.snapshot-interval:60s}", initialDelayString = "${app.warmup.snapshot-interval:60s}")
+    public void persist() {
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = Files.createTempFile(parent, "hot-products", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                sketch.writeTo(out);
+                Map<Long, Long> snapshot = Map.copyOf(candidates);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<Long, Long> entry : snapshot.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeLong(entry.getValue());
+                }
+            }
+            Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to persist hot product snapshot to {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    private void loadSnapshot() {
+        if (!Files.isReadable(snapshotFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                log.warn("Ignoring hot product snapshot {} with unknown format", snapshotFile);
+                return;
+            }
+            sketch = CountMinSketch.readFrom(in);
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                candidates.put(in.readLong(), in.readLong());
+            }
+            log.info("Loaded hot product snapshot with {} candidates", size);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to load hot product snapshot from {}: {}", snapshotFile, e.getMessage());
+        }
+    }
+
+    private void prune() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int excess = candidates.size() - candidateCapacity / 2;
+            if (excess <= 0) {
+                return;
+            }
+            candidates.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(candidates::remove);
+        } finally {
+            pruning.set(false);
+        }
+    }
+}
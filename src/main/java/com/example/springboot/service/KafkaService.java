@@ -1,5 +1,6 @@
 package com.example.springboot.service;
 
+import com.example.springboot.concurrency.DependencyGuard;
 import com.example.springboot.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,14 +16,17 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class KafkaService {
 
+    private static final String DEPENDENCY = "kafka";
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final DependencyGuard dependencyGuard;
 
-    // Product Events
-    public CompletableFuture<SendResult<String, Object>> publishProductEvent(String eventType, Object payload) {
+    // Product Events, keyed by product id so each product's changes stay ordered within a partition
+    public CompletableFuture<SendResult<String, Object>> publishProductEvent(String productKey, Object payload) {
         String topic = "product-events";
-        String key = eventType;
-        log.info("Publishing product event: {} to topic: {}", eventType, topic);
-        return kafkaTemplate.send(topic, key, payload);
+        String key = productKey;
+        log.debug("Publishing product event for product: {} to topic: {}", productKey, topic);
+        return dependencyGuard.callAsync(DEPENDENCY, () -> kafkaTemplate.send(topic, key, payload));
     }
 
     @KafkaListener(topics = "product-events", groupId = "product-service")
@@ -36,7 +40,7 @@ public class KafkaService {
         String topic = "user-events";
         String key = eventType;
         log.info("Publishing user event: {} to topic: {}", eventType, topic);
-        return kafkaTemplate.send(topic, key, payload);
+        return dependencyGuard.callAsync(DEPENDENCY, () -> kafkaTemplate.send(topic, key, payload));
     }
 
     @KafkaListener(topics = "user-events", groupId = "user-service")
@@ -50,7 +54,7 @@ public class KafkaService {
         String topic = "order-events";
         String key = eventType;
         log.info("Publishing order event: {} to topic: {}", eventType, topic);
-        return kafkaTemplate.send(topic, key, payload);
+        return dependencyGuard.callAsync(DEPENDENCY, () -> kafkaTemplate.send(topic, key, payload));
     }
 
     @KafkaListener(topics = "order-events", groupId = "order-service")
@@ -63,7 +67,7 @@ public class KafkaService {
     public CompletableFuture<SendResult<String, Object>> publishAuditLog(Object auditLog) {
         String topic = "audit-logs";
         log.info("Publishing audit log to topic: {}", topic);
-        return kafkaTemplate.send(topic, auditLog);
+        return dependencyGuard.callAsync(DEPENDENCY, () -> kafkaTemplate.send(topic, auditLog));
     }
 
     @KafkaListener(topics = "audit-logs", groupId = "audit-service")
@@ -75,7 +79,7 @@ public class KafkaService {
     // Generic method for publishing to any topic
     public CompletableFuture<SendResult<String, Object>> publishToTopic(String topic, String key, Object payload) {
         log.info("Publishing to topic: {} with key: {}", topic, key);
-        return kafkaTemplate.send(topic, key, payload);
+        return dependencyGuard.callAsync(DEPENDENCY, () -> kafkaTemplate.send(topic, key, payload));
     }
 
     // Error handling
@@ -0,0 +1,252 @@
+package com.example.springboot.service;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.example.springboot.dto.PriceHistoryPageResponse;
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.entity.cassandra.PriceChange;
+import com.example.springboot.entity.cassandra.PriceRollup;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.repository.cassandra.PriceHistoryRepository;
+import com.example.springboot.repository.cassandra.PriceHistoryRepository.RollupPartial;
+import com.example.springboot.repository.cassandra.PriceHistoryRepository.WriterRollup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Append-only price log plus hourly/daily rollups in Cassandra, so price analytics never scan the
+ * product table. Each committed price change is appended to the log and folded into in-memory
+ * running aggregates for the current hour and day; {@link #flushRollups()} upserts those as this
+ * instance's row for each period. Readers merge the rows of all writers.
+ * <p>
+ * Rollups summarize the recorded change events, not the price over time: {@code avgPrice} is the
+ * mean of the prices set during the period, whatever their durations, and a period in which the
+ * price did not change has no rollup row at all (its price is the last change before it).
+ */
+@Slf4j
+@Service
+public class PriceHistoryService {
+
+    private final PriceHistoryRepository priceHistoryRepository;
+    private final Clock clock;
+    private final int maxPageSize;
+    private final Duration maxRollupRange;
+    private final Duration shutdownFlushTimeout;
+    private final UUID writerId = Uuids.random();
+    private final Map<RollupKey, RollupPartial> openRollups = new ConcurrentHashMap<>();
+
+    public PriceHistoryService(PriceHistoryRepository priceHistoryRepository,
+                               @Value("${app.price-history.max-page-size:500}") int maxPageSize,
+                               @Value("${app.price-history.max-rollup-range:400d}") Duration maxRollupRange,
+                               @Value("${app.price-history.shutdown-flush-timeout:5s}") Duration shutdownFlushTimeout) {
+        this(priceHistoryRepository, Clock.systemUTC(), maxPageSize, maxRollupRange, shutdownFlushTimeout);
+    }
+
+    PriceHistoryService(PriceHistoryRepository priceHistoryRepository, Clock clock, int maxPageSize,
+                        Duration maxRollupRange, Duration shutdownFlushTimeout) {
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.clock = clock;
+        this.maxPageSize = maxPageSize;
+        this.maxRollupRange = maxRollupRange;
+        this.shutdownFlushTimeout = shutdownFlushTimeout;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!event.priceChanged()) {
+            return;
+        }
+        ProductResponse product = event.product();
+        // the log and rollups are analytics over doubles; the exact amount stays in PostgreSQL
+        double price = product.getPrice().toDouble();
+        UUID changedAt = Uuids.timeBased();
+        Instant timestamp = Instant.ofEpochMilli(Uuids.unixTimestamp(changedAt));
+        PriceChange change = PriceChange.builder()
+                .productId(product.getId())
+                .day(LocalDate.ofInstant(timestamp, ZoneOffset.UTC))
+                .changedAt(changedAt)
+                .price(price)
+                .previousPrice(event.previousPrice() != null ? event.previousPrice().toDouble() : null)
+                .version(product.getVersion())
+                .build();
+        priceHistoryRepository.saveChangeAsync(change).whenComplete((rs, ex) -> {
+            if (ex != null) {
+                log.error("Failed to append price change for product {}: {}", product.getId(), ex.getMessage());
+            }
+        });
+        for (PriceRollup.Resolution resolution : PriceRollup.Resolution.values()) {
+            Instant periodStart = resolution.periodStart(timestamp);
+            RollupPartial sample = new RollupPartial(periodStart, price, price, price, 1);
+            openRollups.merge(new RollupKey(product.getId(), resolution, periodStart), sample, RollupPartial::merge);
+        }
+    }
+
+    /**
+     * Writes every open aggregate and forgets those whose period has ended. A failed final write is
+     * merged back so the next flush retries it.
+     */
+    @Scheduled(fixedDelayString = "${app.price-history.flush-interval:10s}")
+    public void flushRollups() {
+        flush();
+    }
+
+    /** @return completes once every write issued by this flush has finished, successfully or not */
+    CompletableFuture<Void> flush() {
+        Instant now = clock.instant();
+        List<CompletableFuture<AsyncResultSet>> writes = new ArrayList<>();
+        for (RollupKey key : openRollups.keySet()) {
+            boolean closed = !key.resolution().periodEnd(key.periodStart()).isAfter(now);
+            RollupPartial[] snapshot = new RollupPartial[1];
+            openRollups.computeIfPresent(key, (k, partial) -> {
+                snapshot[0] = partial;
+                return closed ? null : partial;
+            });
+            if (snapshot[0] == null) {
+                continue;
+            }
+            writes.add(priceHistoryRepository.saveRollupAsync(key.productId(), key.resolution(), key.periodStart(), writerId, snapshot[0])
+                    .whenComplete((rs, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to flush {} price rollup for product {}: {}",
+                                    key.resolution(), key.productId(), ex.getMessage());
+                            if (closed) {
+                                openRollups.merge(key, snapshot[0], RollupPartial::merge);
+                            }
+                        }
+                    })
+                    .toCompletableFuture());
+        }
+        return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Final flush, waiting for the writes so the Cassandra session is not closed under them. Bounded,
+     * so an unreachable cluster cannot stall shutdown; whatever is not written in time is lost.
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush().get(shutdownFlushTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Price rollups not flushed within {}; unwritten aggregates are lost", shutdownFlushTimeout);
+        } catch (ExecutionException e) {
+            log.warn("Some price rollups failed to flush on shutdown: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public CompletableFuture<PriceHistoryPageResponse> getHistory(Long productId, LocalDate day, Instant since,
+                                                                  String pageToken, int pageSize) {
+        if (pageSize <= 0 || pageSize > maxPageSize) {
+            throw new ValidationException("Page size must be between 1 and " + maxPageSize);
+        }
+        LocalDate bucket = day != null ? day : AuditLogService.dayBucket(since != null ? since : clock.instant());
+        Instant lowerBound = since != null && AuditLogService.dayBucket(since).equals(bucket)
+                ? since
+                : bucket.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        return priceHistoryRepository.findChanges(productId, bucket, lowerBound, decodePageToken(pageToken), pageSize)
+                .thenApply(slice -> PriceHistoryPageResponse.builder()
+                        .changes(slice.changes())
+                        .nextPageToken(encodePageToken(slice.pagingState()))
+                        .build())
+                .toCompletableFuture();
+    }
+
+    /**
+     * Rollups for periods starting in {@code [from, to)}, newest first. This instance's unflushed
+     * aggregates are included from memory; other instances' are at most one flush interval behind.
+     */
+    public CompletableFuture<List<PriceRollup>> getRollups(Long productId, PriceRollup.Resolution resolution,
+                                                           Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).compareTo(maxRollupRange) > 0) {
+            throw new ValidationException("Rollup range must not exceed " + maxRollupRange.toDays() + " days");
+        }
+        return priceHistoryRepository.findRollupPartials(productId, resolution, from, to)
+                .thenApply(partials -> merge(productId, resolution, partials, from, to))
+                .toCompletableFuture();
+    }
+
+    List<PriceRollup> merge(Long productId, PriceRollup.Resolution resolution, List<WriterRollup> stored,
+                            Instant from, Instant to) {
+        Map<Instant, RollupPartial> byPeriod = new LinkedHashMap<>();
+        for (WriterRollup row : stored) {
+            RollupPartial partial = row.partial();
+            // this instance's stored row lags its in-memory aggregate, which is added below instead
+            if (row.writer().equals(writerId)
+                    && openRollups.containsKey(new RollupKey(productId, resolution, partial.periodStart()))) {
+                continue;
+            }
+            byPeriod.merge(partial.periodStart(), partial, RollupPartial::merge);
+        }
+        openRollups.forEach((key, partial) -> {
+            if (key.productId().equals(productId) && key.resolution() == resolution
+                    && !key.periodStart().isBefore(from) && key.periodStart().isBefore(to)) {
+                byPeriod.merge(key.periodStart(), partial, RollupPartial::merge);
+            }
+        });
+        return byPeriod.values().stream()
+                .sorted((a, b) -> b.periodStart().compareTo(a.periodStart()))
+                .map(partial -> PriceRollup.builder()
+                        .productId(productId)
+                        .resolution(resolution)
+                        .periodStart(partial.periodStart())
+                        .minPrice(partial.min())
+                        .maxPrice(partial.max())
+                        .avgPrice(partial.sum() / partial.count())
+                        .sampleCount(partial.count())
+                        .build())
+                .toList();
+    }
+
+    private ByteBuffer decodePageToken(String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+        try {
+            return ByteBuffer.wrap(Base64.getUrlDecoder().decode(pageToken));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid page token", e);
+        }
+    }
+
+    private String encodePageToken(ByteBuffer pagingState) {
+        if (pagingState == null) {
+            return null;
+        }
+        ByteBuffer copy = pagingState.duplicate();
+        byte[] bytes = new byte[copy.remaining()];
+        copy.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private record RollupKey(Long productId, PriceRollup.Resolution resolution, Instant periodStart) {
+    }
+}
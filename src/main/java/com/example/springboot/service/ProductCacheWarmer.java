@@ -0,0 +1,115 @@
+package com.example.springboot.service;
+
+import com.example.springboot.cache.CoalescingCache;
+import com.example.springboot.dto.ProductResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Preloads the {@code product} cache with the hottest ids recorded by {@link HotProductTracker}
+ * (plus the full {@code products} list) before the instance reports ready. Ids are fetched in
+ * batches of {@code batch-size}, one {@code IN} query per batch, several batches in parallel.
+ * Batches are stored through {@link CoalescingCache#loadAll}, so a product changed while its batch
+ * was loading is not cached in its old state.
+ */
+@Slf4j
+@Service
+public class ProductCacheWarmer {
+
+    private final ProductService productService;
+    private final HotProductTracker hotProductTracker;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final int topN;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration timeout;
+
+    private volatile boolean complete;
+    private volatile int warmedProducts;
+
+    public ProductCacheWarmer(
+            ProductService productService,
+            HotProductTracker hotProductTracker,
+            CacheManager cacheManager,
+            @Value("${app.warmup.enabled:true}") boolean enabled,
+            @Value("${app.warmup.top-n:200}") int topN,
+            @Value("${app.warmup.batch-size:50}") int batchSize,
+            @Value("${app.warmup.parallelism:4}") int parallelism,
+            @Value("${app.warmup.timeout:60s}") Duration timeout) {
+        this.productService = productService;
+        this.hotProductTracker = hotProductTracker;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.topN = topN;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+        this.complete = !enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpAsync() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofPlatform().name("product-cache-warmup").daemon().start(this::warmUp);
+    }
+
+    void warmUp() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            productService.getAllProducts();
+
+            if (!(cacheManager.getCache("product") instanceof CoalescingCache productCache)) {
+                log.warn("Cache warm-up skipped: the product cache does not support guarded bulk loads");
+                return;
+            }
+            List<Long> hotIds = hotProductTracker.hottest(topN);
+            List<CompletableFuture<Integer>> batches = new ArrayList<>();
+            for (int from = 0; from < hotIds.size(); from += batchSize) {
+                List<Long> batch = hotIds.subList(from, Math.min(from + batchSize, hotIds.size()));
+                batches.add(CompletableFuture.supplyAsync(() -> productCache.loadAll(batch, ids ->
+                        productService.loadActiveProducts(ids).stream()
+                                .collect(Collectors.toMap(ProductResponse::getId, Function.identity()))).size(),
+                        executor));
+            }
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            warmedProducts = batches.stream().mapToInt(CompletableFuture::join).sum();
+            log.info("Cache warm-up loaded {} of {} hot products in {} ms",
+                    warmedProducts, hotIds.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up did not finish within {}, reporting ready anyway", timeout);
+        } catch (Exception e) {
+            log.warn("Cache warm-up failed, reporting ready with cold caches: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+            complete = true;
+        }
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int getWarmedProducts() {
+        return warmedProducts;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.entity.mongo.ProductDocument;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Keeps the Mongo catalog read model in sync with the transactional product table.
+ * Writes are fire-and-forget reactive calls issued after commit, so product mutations
+ * never wait on Mongo. Every write is an upsert conditional on the product version, so a late
+ * or replayed event never overwrites a newer document; deletes leave an inactive tombstone
+ * carrying the version for the same reason.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogProjector {
+
+    private static final int REBUILD_CONCURRENCY = 16;
+
+    private final ReactiveMongoOperations mongoOperations;
+    private final ProductRepository productRepository;
+
+    @Value("${app.catalog.backfill-on-startup:true}")
+    private boolean backfillOnStartup = true;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductResponse product = event.product();
+        project(toDocument(product)).subscribe(
+                applied -> {
+                    if (!applied) {
+                        log.debug("Skipped stale {} projection for product {} at version {}",
+                                event.type(), product.getId(), product.getVersion());
+                    }
+                },
+                ex -> log.error("Failed to project {} for product {}: {}", event.type(), product.getId(), ex.getMessage()));
+    }
+
+    /**
+     * Upserts {@code document} unless the stored one is at the same or a newer version. A newer
+     * stored document makes the filter miss and the insert collide on {@code _id}, which is the
+     * "stale" outcome.
+     */
+    Mono<Boolean> project(ProductDocument document) {
+        long version = document.getVersion() != null ? document.getVersion() : 0L;
+        Query olderOrMissing = Query.query(Criteria.where("_id").is(document.getId())
+                .orOperator(Criteria.where("version").lt(version), Criteria.where("version").exists(false)));
+        Update update = new Update()
+                .set("productId", document.getProductId())
+                .set("name", document.getName())
+                .set("description", document.getDescription())
+                .set("priceMinor", document.getPriceMinor())
+                .set("currency", document.getCurrency())
+                .set("createdAt", document.getCreatedAt())
+                .set("updatedAt", document.getUpdatedAt())
+                .set("isActive", document.getIsActive())
+                .set("version", version)
+                .unset("price");
+        return mongoOperations.upsert(olderOrMissing, update, ProductDocument.class)
+                .thenReturn(true)
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.just(false));
+    }
+
+    public Mono<Long> rebuild() {
+        return Flux.defer(() -> Flux.fromIterable(productRepository.findByIsActiveTrue()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(product -> toDocument(ProductResponse.builder()
+                        .id(product.getId())
+                        .name(product.getName())
+                        .description(product.getDescription())
+                        .price(product.getPrice())
+                        .createdAt(product.getCreatedAt())
+                        .updatedAt(product.getUpdatedAt())
+                        .isActive(product.getIsActive())
+                        .version(product.getVersion())
+                        .build()))
+                .flatMap(this::project, REBUILD_CONCURRENCY)
+                .filter(Boolean::booleanValue)
+                .count()
+                .doOnSuccess(count -> log.info("Rebuilt catalog read model with {} products", count));
+    }
+
+    /**
+     * Documents projected before prices became minor units carry only the legacy double
+     * {@code price}, so price-band queries cannot see them. If any are left at startup the read
+     * model is rebuilt; the version guard lets those unversioned documents be overwritten, and
+     * instances starting together just lose the race harmlessly.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        backfillLegacyDocuments().subscribe(
+                count -> {
+                    if (count > 0) {
+                        log.info("Backfilled {} legacy catalog documents", count);
+                    }
+                },
+                ex -> log.error("Catalog backfill failed; run POST /api/v1/catalog/rebuild: {}", ex.getMessage()));
+    }
+
+    /**
+     * Rebuilds the read model if any document lacks {@code priceMinor}. Legacy documents still
+     * without it afterwards belong to deleted or inactive products and become inactive tombstones.
+     */
+    Mono<Long> backfillLegacyDocuments() {
+        Query legacy = Query.query(Criteria.where("priceMinor").exists(false));
+        return mongoOperations.exists(legacy, ProductDocument.class)
+                .flatMap(found -> !found ? Mono.just(0L) : rebuild()
+                        .flatMap(rebuilt -> mongoOperations.updateMulti(legacy,
+                                        new Update().set("isActive", false).unset("price"), ProductDocument.class)
+                                .map(tombstoned -> rebuilt + tombstoned.getModifiedCount())));
+    }
+
+    static ProductDocument toDocument(ProductResponse product) {
+        return ProductDocument.builder()
+                .id(String.valueOf(product.getId()))
+                .productId(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .priceMinor(product.getPrice().amountMinor())
+                .currency(product.getCurrency())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .isActive(product.getIsActive())
+                .version(product.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.entity.mongo.ProductDocument;
+import com.example.springboot.exception.ResourceNotFoundException;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.money.Money;
+import com.example.springboot.repository.mongo.ProductReadRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Read side of the catalog, served from Mongo so browse traffic stays off Postgres.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogService {
+
+    private final ProductReadRepository productReadRepository;
+
+    @Value("${app.catalog.stream.prefetch:256}")
+    private int streamPrefetch = 256;
+
+    @Value("${app.catalog.max-page-size:200}")
+    private int maxPageSize = 200;
+
+    @Value("${app.money.default-currency:USD}")
+    private String defaultCurrency = "USD";
+
+    public Mono<ProductResponse> getProduct(Long id) {
+        return productReadRepository.findByProductIdAndIsActiveTrue(id)
+                .map(this::toResponse)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Product", "id", id)));
+    }
+
+    public Flux<ProductResponse> getPage(int page, int size) {
+        return productReadRepository.findByIsActiveTrueOrderByCreatedAtDesc(PageRequest.of(page, checkedSize(size)))
+                .map(this::toResponse);
+    }
+
+    public Flux<ProductResponse> searchByNamePrefix(String prefix, int page, int size) {
+        return productReadRepository.findByIsActiveTrueAndNameStartingWith(prefix, PageRequest.of(page, checkedSize(size)))
+                .map(this::toResponse);
+    }
+
+    /**
+     * Streams the whole catalog (or a price band of it). Demand is bounded by
+     * {@code limitRate}, so a slow client throttles the Mongo cursor instead of
+     * buffering the full result set in memory.
+     */
+    public Flux<ProductResponse> streamProducts(BigDecimal minPrice, BigDecimal maxPrice, String currencyCode) {
+        if (minPrice == null && maxPrice == null) {
+            return productReadRepository.findByIsActiveTrueOrderByCreatedAtDesc()
+                    .limitRate(streamPrefetch)
+                    .map(this::toResponse);
+        }
+        Currency currency;
+        long minMinor;
+        long maxMinor;
+        try {
+            currency = Money.currency(currencyCode != null ? currencyCode : defaultCurrency);
+            minMinor = minPrice != null ? Money.of(minPrice, currency).amountMinor() : 0L;
+            maxMinor = maxPrice != null ? Money.of(maxPrice, currency).amountMinor() : Long.MAX_VALUE;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+        return productReadRepository
+                .findByIsActiveTrueAndCurrencyAndPriceMinorBetweenOrderByPriceMinorAsc(
+                        currency.getCurrencyCode(), minMinor, maxMinor)
+                .limitRate(streamPrefetch)
+                .map(this::toResponse);
+    }
+
+    private int checkedSize(int size) {
+        if (size <= 0 || size > maxPageSize) {
+            throw new ValidationException("Page size must be between 1 and " + maxPageSize);
+        }
+        return size;
+    }
+
+    private ProductResponse toResponse(ProductDocument document) {
+        return ProductResponse.builder()
+                .id(document.getProductId())
+                .name(document.getName())
+                .description(document.getDescription())
+                .price(document.getPriceMinor() != null
+                        ? Money.ofMinor(document.getPriceMinor(), Currency.getInstance(document.getCurrency()))
+                        : null)
+                .createdAt(document.getCreatedAt())
+                .updatedAt(document.getUpdatedAt())
+                .isActive(document.getIsActive())
+                .build();
+    }
+}
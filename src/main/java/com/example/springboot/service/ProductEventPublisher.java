@@ -0,0 +1,36 @@
+package com.example.springboot.service;
+
+import com.example.springboot.event.ProductChangeMessage;
+import com.example.springboot.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Relays committed product mutations to the {@code product-events} topic, which feeds the
+ * change stream on every instance.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductEventPublisher {
+
+    private final KafkaService kafkaService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Long productId = event.product().getId();
+        try {
+            kafkaService.publishProductEvent(String.valueOf(productId), ProductChangeMessage.from(event))
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to publish {} event for product {}: {}", event.type(), productId, ex.getMessage());
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // the change is already committed; a shed or open-circuit Kafka must not fail the request
+            log.warn("Skipped publishing {} event for product {}: {}", event.type(), productId, e.getMessage());
+        }
+    }
+}
@@ -1,20 +1,43 @@
 package com.example.springboot.service;
 
+import com.example.springboot.cache.CoalescingCache;
+import com.example.springboot.dto.ProductFieldSet;
+import com.example.springboot.dto.ProductPatchRequest;
 import com.example.springboot.dto.ProductRequest;
 import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.dto.ProductSummary;
 import com.example.springboot.entity.Product;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.exception.PreconditionFailedException;
 import com.example.springboot.exception.ResourceNotFoundException;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.money.Money;
 import com.example.springboot.repository.ProductRepository;
+import com.example.springboot.repository.ProductRepository.PriceUpdate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,33 +46,133 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProductService {
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
-    @Cacheable(value = "products")
+    @Value("${app.products.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    @Value("${app.money.default-currency:USD}")
+    private String defaultCurrency = "USD";
+
+    @Cacheable(value = "products", sync = true)
+    @Transactional(readOnly = true)
     public List<ProductResponse> getAllProducts() {
-        log.info("Fetching all products from database");
+        log.debug("Fetching all products from database");
         List<Product> products = productRepository.findByIsActiveTrue();
-        log.info("Found {} active products", products.size());
+        log.debug("Found {} active products", products.size());
         return products.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<ProductResponse> getAllProductsPaginated(Pageable pageable) {
-        log.info("Fetching products with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        log.debug("Fetching products with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
         Page<Product> products = productRepository.findByIsActiveTrue(pageable);
-        log.info("Found {} products on page {}", products.getContent().size(), pageable.getPageNumber());
+        log.debug("Found {} products on page {}", products.getContent().size(), pageable.getPageNumber());
         return products.map(this::mapToResponse);
     }
 
-    @Cacheable(value = "product", key = "#id")
+    /**
+     * Keyset page for streaming the catalog: active products with an id above {@code afterId}, in
+     * id order. Bypasses the caches, so callers never hold more than one page.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductResponse> getActiveProductsAfter(long afterId, int limit) {
+        return productRepository.findByIdGreaterThanAndIsActiveTrueOrderByIdAsc(afterId, Limit.of(limit)).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sparse read: selects only the columns of the narrowest projection covering {@code fields}.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllProducts(ProductFieldSet fields) {
+        Class<? extends ProductSummary> type = fields.projectionType();
+        List<? extends ProductSummary> products = type != null
+                ? productRepository.findByIsActiveTrue(type)
+                : productRepository.findByIsActiveTrue().stream().map(this::mapToResponse).toList();
+        log.debug("Found {} active products for fields {}", products.size(), fields.cacheKey());
+        return products.stream().map(fields::select).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllProductsPaginated(Pageable pageable, ProductFieldSet fields) {
+        Class<? extends ProductSummary> type = fields.projectionType();
+        Page<? extends ProductSummary> products = type != null
+                ? productRepository.findByIsActiveTrue(pageable, type)
+                : productRepository.findByIsActiveTrue(pageable).map(this::mapToResponse);
+        return products.map(fields::select);
+    }
+
+    @Cacheable(value = "product", key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public ProductResponse getProductById(Long id) {
-        log.info("Fetching product with id: {}", id);
+        log.debug("Fetching product with id: {}", id);
         Product product = productRepository.findByIdAndIsActiveTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
-        log.info("Found product: {}", product.getName());
         return mapToResponse(product);
     }
 
+    /**
+     * Multi-get: hits come straight from the {@code product} cache, all misses are fetched with a
+     * single {@code IN} query and back-filled through {@link CoalescingCache#loadAll}, which skips
+     * the back-fill if a product changed while the query ran. Results follow the requested order;
+     * unknown or inactive ids are skipped.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductResponse> getProductsByIds(List<Long> ids) {
+        if (ids.size() > maxBatchSize) {
+            throw new ValidationException("At most " + maxBatchSize + " product ids can be requested at once");
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, ProductResponse> found = new HashMap<>(requested.size() * 2);
+        List<Long> misses = new ArrayList<>();
+
+        Cache cache = cacheManager.getCache("product");
+        for (Long id : requested) {
+            ProductResponse cached = cache != null ? cache.get(id, ProductResponse.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            log.debug("Batch lookup: {} cache hits, {} misses", found.size(), misses.size());
+            found.putAll(cache instanceof CoalescingCache coalescing
+                    ? coalescing.loadAll(misses, this::loadActiveProductsById)
+                    : loadActiveProductsById(misses));
+        }
+
+        List<ProductResponse> result = new ArrayList<>(found.size());
+        for (Long id : requested) {
+            ProductResponse product = found.get(id);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductResponse> loadActiveProducts(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findByIdInAndIsActiveTrue(ids).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, ProductResponse> loadActiveProductsById(Collection<Long> ids) {
+        return loadActiveProducts(ids).stream()
+                .collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+    }
+
     @CacheEvict(value = {"products", "product"}, allEntries = true)
     public ProductResponse createProduct(ProductRequest productRequest) {
         log.info("Creating new product: {}", productRequest.getName());
@@ -57,28 +180,96 @@ public class ProductService {
         Product product = new Product();
         product.setName(productRequest.getName());
         product.setDescription(productRequest.getDescription());
-        product.setPrice(productRequest.getPrice());
+        product.setPrice(toMoney(productRequest.getPrice(), productRequest.getCurrency()));
         product.setIsActive(true);
         
         Product savedProduct = productRepository.save(product);
         log.info("Created product with id: {}", savedProduct.getId());
-        return mapToResponse(savedProduct);
+        ProductResponse response = mapToResponse(savedProduct);
+        eventPublisher.publishEvent(new ProductChangedEvent(ProductChangedEvent.Type.CREATED, response));
+        return response;
     }
 
     @CacheEvict(value = {"products", "product"}, allEntries = true)
     public ProductResponse updateProduct(Long id, ProductRequest productRequest) {
+        return updateProduct(id, productRequest, null);
+    }
+
+    /**
+     * Full update; when {@code expectedVersion} is given the product must still be at that version.
+     * The explicit flush makes a concurrent writer surface here as an optimistic locking failure and
+     * puts the new version into the response.
+     */
+    @CacheEvict(value = {"products", "product"}, allEntries = true)
+    public ProductResponse updateProduct(Long id, ProductRequest productRequest, Long expectedVersion) {
         log.info("Updating product with id: {}", id);
         
         Product existingProduct = productRepository.findByIdAndIsActiveTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+        checkVersion(existingProduct, expectedVersion);
+        Money previousPrice = existingProduct.getPrice();
         
         existingProduct.setName(productRequest.getName());
         existingProduct.setDescription(productRequest.getDescription());
-        existingProduct.setPrice(productRequest.getPrice());
+        existingProduct.setPrice(toMoney(productRequest.getPrice(), productRequest.getCurrency()));
         
         Product updatedProduct = productRepository.save(existingProduct);
-        log.info("Updated product: {}", updatedProduct.getName());
-        return mapToResponse(updatedProduct);
+        productRepository.flush();
+        log.info("Updated product with id: {}", updatedProduct.getId());
+        ProductResponse response = mapToResponse(updatedProduct);
+        eventPublisher.publishEvent(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, response, previousPrice));
+        return response;
+    }
+
+    /**
+     * Partial update writing only the changed columns. A conditional price-only patch, the pricing
+     * engine's case, is a single {@code UPDATE ... WHERE id = ? AND version = ?} without a prior read.
+     */
+    @CacheEvict(value = {"products", "product"}, allEntries = true)
+    public ProductResponse patchProduct(Long id, ProductPatchRequest patch, Long expectedVersion) {
+        if (!patch.hasChanges()) {
+            throw new ValidationException("At least one of name, description or price must be given");
+        }
+        if (patch.getName() != null && patch.getName().isBlank()) {
+            throw new ValidationException("Product name must not be blank");
+        }
+        if (patch.getCurrency() != null && patch.getPrice() == null) {
+            throw new ValidationException("Currency can only be changed together with the price");
+        }
+        Money newPrice = patch.getPrice() != null ? toMoney(patch.getPrice(), patch.getCurrency()) : null;
+        log.info("Patching product with id: {}", id);
+
+        Product updatedProduct;
+        Money previousPrice = null;
+        if (expectedVersion != null && patch.hasOnlyPrice()) {
+            PriceUpdate priceUpdate = productRepository
+                    .updatePriceIfVersionMatches(id, expectedVersion, newPrice, LocalDateTime.now())
+                    .orElseThrow(() -> productRepository.existsByIdAndIsActiveTrue(id)
+                            ? versionMismatch(id, expectedVersion)
+                            : new ResourceNotFoundException("Product", "id", id));
+            updatedProduct = priceUpdate.product();
+            previousPrice = priceUpdate.previousPrice();
+        } else {
+            Product existingProduct = productRepository.findByIdAndIsActiveTrue(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+            checkVersion(existingProduct, expectedVersion);
+            previousPrice = existingProduct.getPrice();
+            if (patch.getName() != null) {
+                existingProduct.setName(patch.getName());
+            }
+            if (patch.getDescription() != null) {
+                existingProduct.setDescription(patch.getDescription());
+            }
+            if (newPrice != null) {
+                existingProduct.setPrice(newPrice);
+            }
+            updatedProduct = productRepository.save(existingProduct);
+            productRepository.flush();
+        }
+
+        ProductResponse response = mapToResponse(updatedProduct);
+        eventPublisher.publishEvent(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, response, previousPrice));
+        return response;
     }
 
     @CacheEvict(value = {"products", "product"}, allEntries = true)
@@ -89,10 +280,31 @@ public class ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
         
         product.setIsActive(false);
-        productRepository.save(product);
+        Product deletedProduct = productRepository.save(product);
+        // the DELETED event carries the bumped version, so read models order it after earlier updates
+        productRepository.flush();
+        eventPublisher.publishEvent(new ProductChangedEvent(ProductChangedEvent.Type.DELETED, mapToResponse(deletedProduct)));
         log.info("Product soft deleted successfully with id: {}", id);
     }
 
+    private void checkVersion(Product product, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(product.getVersion())) {
+            throw versionMismatch(product.getId(), expectedVersion);
+        }
+    }
+
+    private PreconditionFailedException versionMismatch(Long id, Long expectedVersion) {
+        return new PreconditionFailedException("Product " + id + " is no longer at version " + expectedVersion);
+    }
+
+    private Money toMoney(BigDecimal amount, String currencyCode) {
+        try {
+            return Money.of(amount, Money.currency(currencyCode != null ? currencyCode : defaultCurrency));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage(), e);
+        }
+    }
+
     private ProductResponse mapToResponse(Product product) {
         return ProductResponse.builder()
                 .id(product.getId())
@@ -102,6 +314,7 @@ public class ProductService {
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
                 .isActive(product.getIsActive())
+                .version(product.getVersion())
                 .build();
     }
 } 
\ No newline at end of file
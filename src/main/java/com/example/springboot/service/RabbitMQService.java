@@ -1,5 +1,6 @@
 package com.example.springboot.service;
 
+import com.example.springboot.concurrency.DependencyGuard;
 import com.example.springboot.config.RabbitMQConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,12 +13,15 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class RabbitMQService {
 
+    private static final String DEPENDENCY = "rabbitmq";
+
     private final RabbitTemplate rabbitTemplate;
+    private final DependencyGuard dependencyGuard;
 
     // Product Messages
     public void sendProductMessage(String routingKey, Object message) {
         log.info("Sending product message with routing key: {}", routingKey);
-        rabbitTemplate.convertAndSend(RabbitMQConfig.PRODUCT_EXCHANGE, routingKey, message);
+        dependencyGuard.run(DEPENDENCY, () -> rabbitTemplate.convertAndSend(RabbitMQConfig.PRODUCT_EXCHANGE, routingKey, message));
     }
 
     @RabbitListener(queues = RabbitMQConfig.PRODUCT_QUEUE)
@@ -29,7 +33,7 @@ public class RabbitMQService {
     // User Messages
     public void sendUserMessage(String routingKey, Object message) {
         log.info("Sending user message with routing key: {}", routingKey);
-        rabbitTemplate.convertAndSend(RabbitMQConfig.USER_EXCHANGE, routingKey, message);
+        dependencyGuard.run(DEPENDENCY, () -> rabbitTemplate.convertAndSend(RabbitMQConfig.USER_EXCHANGE, routingKey, message));
     }
 
     @RabbitListener(queues = RabbitMQConfig.USER_QUEUE)
@@ -41,7 +45,7 @@ public class RabbitMQService {
     // Order Messages
     public void sendOrderMessage(String routingKey, Object message) {
         log.info("Sending order message with routing key: {}", routingKey);
-        rabbitTemplate.convertAndSend(RabbitMQConfig.ORDER_EXCHANGE, routingKey, message);
+        dependencyGuard.run(DEPENDENCY, () -> rabbitTemplate.convertAndSend(RabbitMQConfig.ORDER_EXCHANGE, routingKey, message));
     }
 
     @RabbitListener(queues = RabbitMQConfig.ORDER_QUEUE)
@@ -53,7 +57,7 @@ public class RabbitMQService {
     // Audit Messages
     public void sendAuditMessage(String routingKey, Object message) {
         log.info("Sending audit message with routing key: {}", routingKey);
-        rabbitTemplate.convertAndSend(RabbitMQConfig.AUDIT_EXCHANGE, routingKey, message);
+        dependencyGuard.run(DEPENDENCY, () -> rabbitTemplate.convertAndSend(RabbitMQConfig.AUDIT_EXCHANGE, routingKey, message));
     }
 
     @RabbitListener(queues = RabbitMQConfig.AUDIT_QUEUE)
@@ -65,7 +69,7 @@ public class RabbitMQService {
     // Notification Messages
     public void sendNotificationMessage(String routingKey, Object message) {
         log.info("Sending notification message with routing key: {}", routingKey);
-        rabbitTemplate.convertAndSend(RabbitMQConfig.NOTIFICATION_EXCHANGE, routingKey, message);
+        dependencyGuard.run(DEPENDENCY, () -> rabbitTemplate.convertAndSend(RabbitMQConfig.NOTIFICATION_EXCHANGE, routingKey, message));
     }
 
     @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_QUEUE)
@@ -77,7 +81,7 @@ public class RabbitMQService {
     // Generic method for sending to any exchange
     public void sendToExchange(String exchange, String routingKey, Object message) {
         log.info("Sending message to exchange: {} with routing key: {}", exchange, routingKey);
-        rabbitTemplate.convertAndSend(exchange, routingKey, message);
+        dependencyGuard.run(DEPENDENCY, () -> rabbitTemplate.convertAndSend(exchange, routingKey, message));
     }
 
     // Dead letter queue handler
@@ -0,0 +1,33 @@
+package com.example.springboot.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener feeding {@link Stage#DB}; registered through
+ * {@code hibernate.session.events.auto}, so one instance exists per session.
+ */
+public class DbTimingSessionListener implements SessionEventListener {
+
+    private long connectionStart;
+    private long statementStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStart = RequestTimings.start();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTimings.stop(Stage.DB, connectionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = RequestTimings.start();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.stop(Stage.DB, statementStart);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.springboot.timing;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-stage HDR histograms (microseconds). Request threads write through lock-free
+ * {@link Recorder}s; readers fold interval snapshots into cumulative histograms.
+ */
+@Component
+public class LatencyBreakdown {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Stage, Recorder> recorders = new EnumMap<>(Stage.class);
+    private final Map<Stage, Histogram> cumulative = new EnumMap<>(Stage.class);
+    // a recorder only accepts back interval histograms it handed out itself
+    private final Map<Stage, Histogram> recycled = new EnumMap<>(Stage.class);
+
+    public LatencyBreakdown() {
+        for (Stage stage : Stage.values()) {
+            recorders.put(stage, new Recorder(MAX_TRACKABLE_MICROS, 3));
+            cumulative.put(stage, new Histogram(MAX_TRACKABLE_MICROS, 3));
+        }
+    }
+
+    void record(RequestTimings timings) {
+        for (Stage stage : Stage.values()) {
+            long nanos = timings.nanos(stage);
+            if (nanos > 0) {
+                recorders.get(stage).recordValue(Math.min(MAX_TRACKABLE_MICROS, Math.max(1, nanos / 1000)));
+            }
+        }
+    }
+
+    public synchronized Map<String, StageSummary> snapshot() {
+        Map<String, StageSummary> result = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            Histogram total = cumulative.get(stage);
+            Histogram interval = recorders.get(stage).getIntervalHistogram(recycled.get(stage));
+            recycled.put(stage, interval);
+            total.add(interval);
+            result.put(stage.metricName(), StageSummary.of(stage, total));
+        }
+        return result;
+    }
+
+    public synchronized void reset() {
+        for (Stage stage : Stage.values()) {
+            recorders.get(stage).reset();
+            cumulative.get(stage).reset();
+        }
+    }
+
+    public record StageSummary(String description, long count, double meanMicros, long p50Micros,
+                               long p90Micros, long p99Micros, long p999Micros, long maxMicros) {
+
+        static StageSummary of(Stage stage, Histogram histogram) {
+            return new StageSummary(stage.description(), histogram.getTotalCount(), histogram.getMean(),
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+    }
+}
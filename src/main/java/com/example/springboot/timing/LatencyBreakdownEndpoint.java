@@ -0,0 +1,31 @@
+package com.example.springboot.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/latency} returns per-stage percentiles since start or the last
+ * {@code DELETE /actuator/latency}. Both require the ADMIN role.
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyBreakdownEndpoint {
+
+    private final LatencyBreakdown latencyBreakdown;
+
+    @ReadOperation
+    public Map<String, LatencyBreakdown.StageSummary> breakdown() {
+        return latencyBreakdown.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        latencyBreakdown.reset();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.springboot.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Closes the {@link Stage#FILTERS} stage when the request reaches its handler and times the handler
+ * itself: {@link Stage#SERVICE} runs until {@link ServerTimingResponseAdvice} sees the body being
+ * handed to a message converter, {@link Stage#SERIALIZATION} from there until completion.
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null && timings.nanos(Stage.FILTERS) == 0) {
+            timings.stopSinceRequestStart(Stage.FILTERS);
+        }
+        if (timings != null) {
+            timings.handlerStarted();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                @Nullable Exception ex) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.handlerCompleted();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.springboot.timing;
+
+import java.util.Arrays;
+
+/**
+ * Per-request stage accumulators. One instance per servlet thread is reused across requests, so
+ * a checkpoint costs a thread-local read and a {@code nanoTime()} call and allocates nothing.
+ * Outside a timed request {@link #start()} and {@link #stop(Stage, long)} are no-ops.
+ */
+public final class RequestTimings {
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+
+    private final long[] stageNanos = new long[STAGES.length];
+    private long requestStartNanos;
+    private long handlerStartNanos;
+    private long bodyWriteStartNanos;
+    private boolean active;
+
+    private RequestTimings() {
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = CURRENT.get();
+        Arrays.fill(timings.stageNanos, 0);
+        timings.requestStartNanos = System.nanoTime();
+        timings.handlerStartNanos = 0;
+        timings.bodyWriteStartNanos = 0;
+        timings.active = true;
+        return timings;
+    }
+
+    static RequestTimings current() {
+        RequestTimings timings = CURRENT.get();
+        return timings.active ? timings : null;
+    }
+
+    void finish() {
+        stageNanos[Stage.TOTAL.ordinal()] = System.nanoTime() - requestStartNanos;
+        active = false;
+    }
+
+    /** @return a checkpoint for {@link #stop(Stage, long)}, or 0 when the current request isn't timed */
+    public static long start() {
+        return CURRENT.get().active ? System.nanoTime() : 0;
+    }
+
+    public static void stop(Stage stage, long startNanos) {
+        if (startNanos == 0) {
+            return;
+        }
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.stageNanos[stage.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    /** The handler is about to run; {@link Stage#SERVICE} starts. */
+    void handlerStarted() {
+        handlerStartNanos = System.nanoTime();
+        bodyWriteStartNanos = 0;
+    }
+
+    /** A message converter is about to write the body: {@link Stage#SERVICE} ends, serialization starts. */
+    void bodyWriteStarted() {
+        if (handlerStartNanos == 0 || bodyWriteStartNanos != 0) {
+            return;
+        }
+        bodyWriteStartNanos = System.nanoTime();
+        stageNanos[Stage.SERVICE.ordinal()] += bodyWriteStartNanos - handlerStartNanos;
+    }
+
+    /** The handler and any body write are done; closes whichever of the two stages is open. */
+    void handlerCompleted() {
+        if (handlerStartNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (bodyWriteStartNanos != 0) {
+            stageNanos[Stage.SERIALIZATION.ordinal()] += now - bodyWriteStartNanos;
+        } else {
+            // no converter write (304, empty body, async): the whole handler is service time
+            stageNanos[Stage.SERVICE.ordinal()] += now - handlerStartNanos;
+        }
+        handlerStartNanos = 0;
+        bodyWriteStartNanos = 0;
+    }
+
+    void stopSinceRequestStart(Stage stage) {
+        stageNanos[stage.ordinal()] += System.nanoTime() - requestStartNanos;
+    }
+
+    long nanos(Stage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - requestStartNanos;
+    }
+
+    /** Renders recorded stages as a {@code Server-Timing} header value, durations in milliseconds. */
+    String toServerTiming() {
+        StringBuilder header = new StringBuilder(96);
+        for (Stage stage : STAGES) {
+            long nanos = stage == Stage.TOTAL ? elapsedNanos() : stageNanos[stage.ordinal()];
+            if (nanos == 0) {
+                continue;
+            }
+            if (!header.isEmpty()) {
+                header.append(", ");
+            }
+            header.append(stage.metricName()).append(";dur=").append(nanos / 1000 / 1000.0);
+        }
+        return header.toString();
+    }
+}
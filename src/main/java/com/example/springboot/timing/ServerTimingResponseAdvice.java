@@ -0,0 +1,43 @@
+package com.example.springboot.timing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Runs just before a message converter writes the body: ends {@link Stage#SERVICE} and starts
+ * {@link Stage#SERIALIZATION} for every timed response, whichever converter writes it. With
+ * {@code app.timing.server-timing-header} it also adds a {@code Server-Timing} header with the
+ * stages recorded so far; that is off by default since it exposes internals to any client.
+ */
+@RestControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${app.timing.server-timing-header:false}")
+    private boolean enabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return body;
+        }
+        timings.bodyWriteStarted();
+        if (enabled) {
+            response.getHeaders().add("Server-Timing", timings.toServerTiming());
+        }
+        return body;
+    }
+}
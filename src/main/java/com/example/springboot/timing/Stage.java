@@ -0,0 +1,32 @@
+package com.example.springboot.timing;
+
+/**
+ * Request stages timed by {@link RequestTimings}. Stages are inclusive and may nest: a cache miss
+ * counts towards both {@link #CACHE} and {@link #DB}, and both count towards {@link #SERVICE}.
+ */
+public enum Stage {
+    FILTERS("filters", "Servlet and security filters before the handler"),
+    AUTH("auth", "JWT parsing and validation"),
+    USER_LOOKUP("user", "UserDetailsService lookup"),
+    SERVICE("service", "Handler execution until the response body is handed to a message converter"),
+    CACHE("cache", "Application cache access including loads"),
+    DB("db", "JDBC connection acquisition and statement execution"),
+    SERIALIZATION("ser", "Response body serialization and write, plus byte-cache fills inside the handler"),
+    TOTAL("total", "Whole request");
+
+    private final String metricName;
+    private final String description;
+
+    Stage(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.springboot.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Wall clock with {@value #TICK_MILLIS} ms resolution for response timestamps. The
+ * {@link LocalDateTime} is built once per tick and shared, instead of paying for a zone lookup and
+ * three allocations on every {@code LocalDateTime.now()}.
+ */
+public final class CoarseClock {
+
+    static final long TICK_MILLIS = 10;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static volatile Tick current = new Tick(Long.MIN_VALUE, null);
+
+    private CoarseClock() {
+    }
+
+    public static LocalDateTime now() {
+        long tick = System.currentTimeMillis() / TICK_MILLIS;
+        Tick cached = current;
+        if (cached.tick == tick) {
+            return cached.time;
+        }
+        // racing threads may both rebuild the same tick; either result is correct
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(tick * TICK_MILLIS), ZONE);
+        current = new Tick(tick, time);
+        return time;
+    }
+
+    private record Tick(long tick, LocalDateTime time) {
+    }
+}
@@ -0,0 +1,18 @@
+-- Prices become exact integer minor units (cents for USD) plus an ISO 4217 currency code.
+-- The old column had no currency: every existing price is taken to be USD, and the conversion
+-- below uses USD's two decimal places. Databases holding prices in other currencies must be
+-- converted by hand instead of running this script as is.
+ALTER TABLE products ADD COLUMN price_minor BIGINT;
+ALTER TABLE products ADD COLUMN currency VARCHAR(3) NOT NULL DEFAULT 'USD';
+
+UPDATE products SET price_minor = ROUND(price::numeric * 100);
+
+ALTER TABLE products ALTER COLUMN price_minor SET NOT NULL;
+-- NOT VALID: enforced for new writes only. Existing zero, negative or sub-cent prices would abort
+-- the migration; V7 flags them and then validates the constraint.
+ALTER TABLE products ADD CONSTRAINT chk_products_price_minor_positive CHECK (price_minor > 0) NOT VALID;
+
+DROP INDEX IF EXISTS idx_products_price;
+ALTER TABLE products DROP COLUMN price;
+
+CREATE INDEX idx_products_currency_price_minor ON products(currency, price_minor);
@@ -0,0 +1,4 @@
+-- Author of each product; NULL for rows created before this column and for system writes
+ALTER TABLE products ADD COLUMN created_by BIGINT REFERENCES users(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_products_created_by ON products(created_by);
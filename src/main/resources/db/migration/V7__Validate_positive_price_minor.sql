@@ -0,0 +1,19 @@
+-- Rows carried over by V5 with a price that is not positive in minor units. Their original
+-- amounts are kept here for review before anyone puts them back on sale.
+CREATE TABLE products_invalid_price (
+    product_id BIGINT PRIMARY KEY REFERENCES products(id) ON DELETE CASCADE,
+    price_minor BIGINT NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    flagged_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO products_invalid_price (product_id, price_minor, currency)
+SELECT id, price_minor, currency FROM products WHERE price_minor <= 0;
+
+-- Off sale, with the smallest valid amount as a placeholder so the check holds for every row;
+-- the version bump makes caches and ETags pick up the change.
+UPDATE products
+SET price_minor = 1, is_active = false, version = version + 1, updated_at = CURRENT_TIMESTAMP
+WHERE price_minor <= 0;
+
+ALTER TABLE products VALIDATE CONSTRAINT chk_products_price_minor_positive;
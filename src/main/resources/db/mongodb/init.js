@@ -11,7 +11,7 @@ db.createCollection('audit_logs');
 // Create indexes for better performance
 db.products.createIndex({ "name": 1 });
 db.products.createIndex({ "category": 1 });
-db.products.createIndex({ "price": 1 });
+db.products.createIndex({ "currency": 1, "priceMinor": 1 });
 db.products.createIndex({ "createdAt": -1 });
 
 db.users.createIndex({ "email": 1 }, { unique: true });
@@ -55,7 +55,8 @@ db.products.insertMany([
         _id: ObjectId(),
         name: "iPhone 15 Pro",
         description: "Latest iPhone with advanced features",
-        price: 999.99,
+        priceMinor: 99999,
+        currency: "USD",
         category: "Electronics",
         stock: 50,
         createdAt: new Date(),
@@ -65,7 +66,8 @@ db.products.insertMany([
         _id: ObjectId(),
         name: "MacBook Pro M3",
         description: "Powerful laptop for professionals",
-        price: 1999.99,
+        priceMinor: 199999,
+        currency: "USD",
         category: "Electronics",
         stock: 25,
         createdAt: new Date(),
@@ -75,7 +77,8 @@ db.products.insertMany([
         _id: ObjectId(),
         name: "Nike Air Max",
         description: "Comfortable running shoes",
-        price: 129.99,
+        priceMinor: 12999,
+        currency: "USD",
         category: "Clothing",
         stock: 100,
         createdAt: new Date(),
@@ -0,0 +1,29 @@
+-- Atomically takes up to ARGV[3] tokens from the bucket at KEYS[1].
+-- ARGV[1] capacity, ARGV[2] refill rate in tokens per millisecond, ARGV[3] tokens requested.
+-- Returns the number of tokens granted, or -(milliseconds until a token is available).
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+
+if granted > 0 then
+    return granted
+end
+return -math.max(1, math.ceil((1 - tokens) / rate))
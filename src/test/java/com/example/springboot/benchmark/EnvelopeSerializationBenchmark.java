@@ -0,0 +1,92 @@
+package com.example.springboot.benchmark;
+
+import com.example.springboot.dto.ApiResponse;
+import com.example.springboot.dto.PageResponse;
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of building and serializing a paginated envelope: the previous path (builder,
+ * {@code LocalDateTime.now()}, raw {@code Page}) against the lean one ({@code ApiResponse.page},
+ * coarse clock, {@link PageResponse}, Blackbird). Allocation per operation is reported by the GC
+ * profiler as {@code gc.alloc.rate.norm}. Run with {@code mvn test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=com.example.springboot.benchmark.EnvelopeSerializationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnvelopeSerializationBenchmark {
+
+    private Page<ProductResponse> page;
+    private ObjectMapper plainMapper;
+    private ObjectMapper blackbirdMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProductResponse> products = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        Currency usd = Currency.getInstance("USD");
+        for (long id = 1; id <= 10; id++) {
+            products.add(new ProductResponse(id, "Product " + id, "Description " + id, Money.ofMinor(999 * id, usd), now, now, true, 1L));
+        }
+        page = new PageImpl<>(products, PageRequest.of(0, 10, Sort.by("id")), 240);
+
+        plainMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        blackbirdMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] legacyEnvelope() throws Exception {
+        ApiResponse<Page<ProductResponse>> response = ApiResponse.<Page<ProductResponse>>builder()
+                .status("success")
+                .message("Products retrieved successfully")
+                .data(page)
+                .timestamp(LocalDateTime.now())
+                .totalCount(page.getTotalElements())
+                .pageNumber(page.getNumber())
+                .pageSize(page.getSize())
+                .build();
+        return plainMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] leanEnvelope() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(
+                ApiResponse.page(PageResponse.of(page), "Products retrieved successfully"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EnvelopeSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
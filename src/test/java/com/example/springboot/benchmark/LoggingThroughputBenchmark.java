@@ -0,0 +1,132 @@
+package com.example.springboot.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.example.springboot.logging.DebugDiscardingAsyncAppender;
+import com.example.springboot.logging.SqlLogSamplingTurboFilter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request-thread throughput of the default synchronous file appender against the
+ * production async setup from {@code logback-spring.xml}, for an application log line and for a
+ * Hibernate SQL statement passing through {@link SqlLogSamplingTurboFilter}, alone and followed
+ * by its parameter bindings the way Hibernate's {@code BasicBinder} logs them. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.springboot.benchmark.LoggingThroughputBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingThroughputBenchmark {
+
+    @Param({"SYNC", "ASYNC"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Logger sqlLogger;
+    private Logger bindLogger;
+    private Path logFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] [%X{traceId}] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> target = file;
+        if ("ASYNC".equals(mode)) {
+            DebugDiscardingAsyncAppender async = new DebugDiscardingAsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            target = async;
+        }
+
+        logger = context.getLogger("com.example.springboot.service.ProductService");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(target);
+
+        SqlLogSamplingTurboFilter sampling = new SqlLogSamplingTurboFilter();
+        sampling.setContext(context);
+        sampling.setSampleRate(100);
+        sampling.start();
+        context.addTurboFilter(sampling);
+
+        sqlLogger = context.getLogger("org.hibernate.SQL");
+        sqlLogger.setLevel(ch.qos.logback.classic.Level.DEBUG);
+        sqlLogger.setAdditive(false);
+        sqlLogger.addAppender(target);
+
+        bindLogger = context.getLogger("org.hibernate.orm.jdbc.bind");
+        bindLogger.setLevel(ch.qos.logback.classic.Level.TRACE);
+        bindLogger.setAdditive(false);
+        bindLogger.addAppender(target);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void logInfoWithArguments() {
+        logger.info("Updated product with id: {} price: {}", 42L, 999.99);
+    }
+
+    @Benchmark
+    public void logSampledSqlStatement() {
+        sqlLogger.debug("select p1_0.id,p1_0.name,p1_0.price_minor,p1_0.currency from products p1_0 where p1_0.id=?");
+    }
+
+    @Benchmark
+    public void logSampledSqlStatementWithBinds() {
+        sqlLogger.debug("update products set name=?,price_minor=?,currency=?,version=? where id=? and version=?");
+        Object[] values = {"Keyboard", 4999L, "USD", 4L, 42L, 3L};
+        for (int i = 0; i < values.length; i++) {
+            // mirrors BasicBinder.bind: check the level, then render the value and format with tracef
+            if (bindLogger.isTraceEnabled()) {
+                bindLogger.trace(String.format("binding parameter (%s:%s) <- [%s]", i + 1, "VARCHAR", values[i]));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LoggingThroughputBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.springboot.benchmark;
+
+import com.example.springboot.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price handling on the previous boxed-{@code Double} path against {@link Money} minor units:
+ * range filtering, sorting and summing a catalog's prices, and serializing a page of them.
+ * Allocation per operation is reported by the GC profiler as {@code gc.alloc.rate.norm}. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.springboot.benchmark.MoneyBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int PAGE_SIZE = 50;
+
+    private List<Double> boxedPrices;
+    private long[] minorPrices;
+    private List<Double> boxedPage;
+    private List<Money> moneyPage;
+    private double minBoxed;
+    private double maxBoxed;
+    private long minMinor;
+    private long maxMinor;
+    private ObjectMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Currency usd = Currency.getInstance("USD");
+        boxedPrices = new ArrayList<>(CATALOG_SIZE);
+        minorPrices = new long[CATALOG_SIZE];
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            long cents = 100 + random.nextInt(500_000);
+            minorPrices[i] = cents;
+            boxedPrices.add(cents / 100.0);
+        }
+        boxedPage = boxedPrices.subList(0, PAGE_SIZE);
+        moneyPage = Arrays.stream(minorPrices, 0, PAGE_SIZE).mapToObj(cents -> Money.ofMinor(cents, usd)).toList();
+        minBoxed = 100.0;
+        maxBoxed = 1000.0;
+        minMinor = 10_000;
+        maxMinor = 100_000;
+        mapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public long rangeBoxed() {
+        long count = 0;
+        for (Double price : boxedPrices) {
+            if (price >= minBoxed && price <= maxBoxed) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long rangeMinor() {
+        long count = 0;
+        for (long price : minorPrices) {
+            if (price >= minMinor && price <= maxMinor) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<Double> sortBoxed() {
+        List<Double> copy = new ArrayList<>(boxedPrices);
+        copy.sort(null);
+        return copy;
+    }
+
+    @Benchmark
+    public long[] sortMinor() {
+        long[] copy = minorPrices.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double sumBoxed() {
+        double sum = 0;
+        for (Double price : boxedPrices) {
+            sum += price;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumMinor() {
+        long sum = 0;
+        for (long price : minorPrices) {
+            sum += price;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public byte[] serializeBoxed() throws Exception {
+        return mapper.writeValueAsBytes(boxedPage);
+    }
+
+    @Benchmark
+    public byte[] serializeMoney() throws Exception {
+        return mapper.writeValueAsBytes(moneyPage);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.springboot.benchmark;
+
+import com.example.springboot.dto.ApiResponse;
+import com.example.springboot.dto.ProductRequest;
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.dto.records.ApiResponseRecord;
+import com.example.springboot.dto.records.ProductRequestRecord;
+import com.example.springboot.dto.records.ProductResponseRecord;
+import com.example.springboot.dto.records.RecordDtoModule;
+import com.example.springboot.money.Money;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lombok bean DTOs against the record variants and {@link RecordDtoModule}, on the shared
+ * Blackbird-enabled mapper: serializing a batch-lookup envelope and binding a create request. The
+ * {@code WithJackson} variants use Jackson's own record support, without the module.
+ * Allocation per operation is reported by the GC profiler as {@code gc.alloc.rate.norm}. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.springboot.benchmark.RecordDtoBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordDtoBenchmark {
+
+    private ObjectMapper mapper;
+    private ObjectMapper jacksonRecordsMapper;
+    private List<ProductResponse> beans;
+    private List<ProductResponseRecord> records;
+    private byte[] requestJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new BlackbirdModule())
+                .registerModule(new RecordDtoModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        jacksonRecordsMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        beans = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        Currency usd = Currency.getInstance("USD");
+        for (long id = 1; id <= 20; id++) {
+            beans.add(new ProductResponse(id, "Product " + id, "Description " + id, Money.ofMinor(999 * id, usd), now, now, true, 1L));
+        }
+        records = ProductResponseRecord.fromAll(beans);
+        requestJson = "{\"name\":\"iPhone 15\",\"description\":\"Latest iPhone model\",\"price\":999.99}"
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeBeans() throws Exception {
+        return mapper.writeValueAsBytes(ApiResponse.success(beans, "Products retrieved successfully"));
+    }
+
+    @Benchmark
+    public byte[] serializeRecords() throws Exception {
+        return mapper.writeValueAsBytes(ApiResponseRecord.success(records, "Products retrieved successfully"));
+    }
+
+    @Benchmark
+    public byte[] serializeRecordsWithJackson() throws Exception {
+        return jacksonRecordsMapper.writeValueAsBytes(ApiResponseRecord.success(records, "Products retrieved successfully"));
+    }
+
+    @Benchmark
+    public ProductRequest deserializeBean() throws Exception {
+        return mapper.readValue(requestJson, ProductRequest.class);
+    }
+
+    @Benchmark
+    public ProductRequestRecord deserializeRecord() throws Exception {
+        return mapper.readValue(requestJson, ProductRequestRecord.class);
+    }
+
+    @Benchmark
+    public ProductRequestRecord deserializeRecordWithJackson() throws Exception {
+        return jacksonRecordsMapper.readValue(requestJson, ProductRequestRecord.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RecordDtoBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.springboot.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private CoalescingCache newCache(Duration ttl) {
+        return new CoalescingCache("product", Caffeine.newBuilder().build(), Runnable::run,
+                ttl.toNanos(), 0.0, meterRegistry);
+    }
+
+    @Test
+    void get_WithConcurrentMisses_ShouldRunLoaderOnce() throws Exception {
+        // Given
+        CoalescingCache cache = newCache(Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "value";
+        };
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get(1L, loader)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(7.0, meterRegistry.get("cache.loads").tag("result", "coalesced").counter().count());
+    }
+
+    @Test
+    void get_WhenLoaderFails_ShouldPropagateAndNotCache() {
+        // Given
+        CoalescingCache cache = newCache(Duration.ofMinutes(10));
+
+        // When & Then
+        assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get(1L, () -> { throw new IllegalStateException("boom"); }));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void get_WhenEntryIsStale_ShouldServeStaleValueAndRefresh() throws Exception {
+        // Given
+        CoalescingCache cache = newCache(Duration.ofMillis(1));
+        cache.get(1L, () -> "old");
+        Thread.sleep(5);
+
+        // When
+        String served = cache.get(1L, () -> "new");
+
+        // Then
+        assertEquals("old", served);
+        assertEquals("new", cache.get(1L).get());
+        assertEquals(1.0, meterRegistry.get("cache.loads").tag("result", "stale").counter().count());
+    }
+
+    @Test
+    void loadAll_WhenEvictedDuringLoad_ShouldReturnButNotStoreValues() {
+        // Given
+        CoalescingCache cache = newCache(Duration.ofMinutes(10));
+
+        // When
+        Map<Long, String> loaded = cache.loadAll(List.of(1L, 2L), keys -> {
+            cache.evict(1L);
+            return Map.of(1L, "stale-1", 2L, "stale-2");
+        });
+
+        // Then
+        assertEquals(Map.of(1L, "stale-1", 2L, "stale-2"), loaded);
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void loadAll_WithoutEviction_ShouldStoreValues() {
+        // Given
+        CoalescingCache cache = newCache(Duration.ofMinutes(10));
+
+        // When
+        cache.loadAll(List.of(1L, 2L), keys -> Map.of(1L, "one", 2L, "two"));
+
+        // Then
+        assertEquals("one", cache.get(1L, String.class));
+        assertEquals("two", cache.get(2L, String.class));
+    }
+
+    @Test
+    void put_ShouldEvictInsteadOfStoring() {
+        // Given
+        CoalescingCache cache = newCache(Duration.ofMinutes(10));
+        cache.loadAll(List.of(1L), keys -> Map.of(1L, "one"));
+
+        // When
+        cache.put(1L, "outside-value");
+        cache.put(2L, "two");
+        Cache.ValueWrapper absent = cache.putIfAbsent(3L, "three");
+
+        // Then
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        assertNull(absent);
+        assertNull(cache.get(3L));
+        assertEquals("loaded", cache.get(1L, () -> "loaded"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.springboot.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    @Test
+    void estimate_ShouldNeverUndercount() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+
+        // When
+        for (long id = 0; id < 1000; id++) {
+            for (int i = 0; i < id % 7; i++) {
+                sketch.increment(id);
+            }
+        }
+
+        // Then
+        for (long id = 0; id < 1000; id++) {
+            assertTrue(sketch.estimate(id) >= id % 7);
+        }
+    }
+
+    @Test
+    void decay_ShouldHalveCounts() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment(42L);
+        }
+
+        // When
+        sketch.decay();
+
+        // Then
+        assertEquals(5, sketch.estimate(42L));
+    }
+
+    @Test
+    void readFrom_ShouldRestoreWrittenSketch() throws IOException {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(2, 64);
+        sketch.increment(7L);
+        sketch.increment(7L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sketch.writeTo(new DataOutputStream(bytes));
+
+        // When
+        CountMinSketch restored = CountMinSketch.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertEquals(2, restored.estimate(7L));
+    }
+}
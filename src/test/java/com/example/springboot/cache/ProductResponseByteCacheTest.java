@@ -0,0 +1,104 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.cache.ProductResponseByteCache.Payload;
+import com.example.springboot.cache.ProductResponseByteCache.SerializedResponse;
+import com.example.springboot.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductResponseByteCacheTest {
+
+    private ProductResponseByteCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductResponseByteCache(new ObjectMapper(), new MappingJackson2SmileHttpMessageConverter(),
+                new MappingJackson2CborHttpMessageConverter(), DataSize.ofMegabytes(1),
+                Duration.ofMinutes(10), DataSize.ofBytes(64));
+    }
+
+    @Test
+    void get_ShouldSerializeOnceAndReuseBytes() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        SerializedResponse first = cache.get("k", () -> {
+            loads.incrementAndGet();
+            return new Payload(Map.of("name", "Test Product"), "\"e\"", 0L);
+        });
+        SerializedResponse second = cache.get("k", () -> {
+            loads.incrementAndGet();
+            return new Payload(Map.of("name", "Other"), "\"e\"", 0L);
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertNull(first.gzip(), "bodies below the compression threshold are not gzipped");
+    }
+
+    @Test
+    void toResponseEntity_WhenClientAcceptsGzip_ShouldReturnCompressedVariant() throws IOException {
+        // Given
+        SerializedResponse response = cache.get("large", () -> new Payload(Map.of("description", "x".repeat(500)), "\"e\"", 0L));
+
+        // When
+        ResponseEntity<byte[]> entity = cache.toResponseEntity(response, "br, gzip;q=0.8", CacheControl.noCache());
+
+        // Then
+        assertEquals("gzip", entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(entity.getBody()))) {
+            assertArrayEquals(response.identity(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void get_ShouldCacheEachNegotiatedFormatSeparately() {
+        // Given
+        Payload payload = new Payload(Map.of("name", "Test Product"), "\"e\"", 0L);
+
+        // When
+        SerializedResponse json = cache.get("k", MediaType.APPLICATION_JSON, () -> payload);
+        SerializedResponse smile = cache.get("k", JacksonConfig.APPLICATION_SMILE, () -> payload);
+
+        // Then
+        assertEquals(MediaType.APPLICATION_JSON, json.contentType());
+        assertEquals(JacksonConfig.APPLICATION_SMILE, smile.contentType());
+        assertEquals(':', (char) smile.identity()[0], "Smile bodies start with the ':)' signature");
+    }
+
+    @Test
+    void negotiate_ShouldPreferRequestedBinaryFormat() {
+        assertEquals(JacksonConfig.APPLICATION_SMILE, ProductResponseByteCache.negotiate("application/x-jackson-smile"));
+        assertEquals(MediaType.APPLICATION_CBOR, ProductResponseByteCache.negotiate("application/cbor, application/json;q=0.5"));
+        assertEquals(MediaType.APPLICATION_JSON, ProductResponseByteCache.negotiate("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, ProductResponseByteCache.negotiate(null));
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourZeroQuality() {
+        assertTrue(ProductResponseByteCache.acceptsGzip("gzip, deflate"));
+        assertTrue(ProductResponseByteCache.acceptsGzip("*"));
+        assertFalse(ProductResponseByteCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ProductResponseByteCache.acceptsGzip("identity"));
+        assertFalse(ProductResponseByteCache.acceptsGzip(null));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.springboot.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void tryAcquire_ShouldRejectBeyondLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 0.2, 1.5, 10, 600);
+
+        // When / Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        limiter.onIgnore();
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void limit_ShouldGrowWhileLatencyStaysFlat() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 100, 0.2, 1.5, 10, 600);
+
+        // When
+        saturate(limiter, 50, FAST);
+
+        // Then
+        assertTrue(limiter.getLimit() > 4);
+    }
+
+    @Test
+    void limit_ShouldShrinkWhenLatencyInflates() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 4, 200, 0.2, 1.5, 10, 600);
+        saturate(limiter, 10, FAST);
+        int baseline = limiter.getLimit();
+
+        // When
+        saturate(limiter, 10, SLOW);
+
+        // Then
+        assertTrue(limiter.getLimit() < baseline);
+    }
+
+    @Test
+    void onDropped_ShouldBackOffButNotBelowMinimum() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 5, 4, 10, 0.2, 1.5, 10, 600);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        // Then
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.onSuccess(rttNanos);
+            }
+        }
+    }
+}
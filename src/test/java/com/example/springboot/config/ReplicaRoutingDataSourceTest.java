@@ -0,0 +1,60 @@
+package com.example.springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        HikariDataSource replica = mock(HikariDataSource.class);
+        when(replica.getPoolName()).thenReturn("replica-1");
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), List.of(replica),
+                Duration.ofSeconds(5), Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnly_BeforeFirstLagProbe_ShouldUsePrimary() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When / Then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        routing.getReplicas().get(0).update(0, true);
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void cacheFill_ShortlyAfterWrite_ShouldUsePrimary() throws Exception {
+        // Given
+        routing.getReplicas().get(0).update(0, true);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object cacheFillTarget = ReplicaRoutingDataSource.cacheFill(routing::determineCurrentLookupKey);
+        Object plainReadTarget = routing.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, cacheFillTarget);
+        assertEquals("replica-1", plainReadTarget);
+    }
+}
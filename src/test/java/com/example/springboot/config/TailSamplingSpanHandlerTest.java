@@ -0,0 +1,207 @@
+package com.example.springboot.config;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TailSamplingSpanHandlerTest {
+
+    private static final long START = 1_000_000L;
+
+    @Mock
+    private ObjectProvider<SpanHandler> spanHandlers;
+
+    private final List<MutableSpan> exported = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private Tracing tracing;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tracing != null) {
+            tracing.close();
+        }
+    }
+
+    @Test
+    void isError_ShouldRecognizeErrorsTagsAndServerStatuses() {
+        assertFalse(TailSamplingSpanHandler.isError(span(null, null)));
+        assertFalse(TailSamplingSpanHandler.isError(span("http.status_code", "404")));
+        assertTrue(TailSamplingSpanHandler.isError(span("http.status_code", "503")));
+        assertTrue(TailSamplingSpanHandler.isError(span("status", "500")));
+        assertTrue(TailSamplingSpanHandler.isError(span("error", "boom")));
+        assertTrue(TailSamplingSpanHandler.isError(span("outcome", "SERVER_ERROR")));
+
+        MutableSpan failed = new MutableSpan();
+        failed.error(new IllegalStateException("boom"));
+        assertTrue(TailSamplingSpanHandler.isError(failed));
+    }
+
+    @Test
+    void end_WhenHeadSampled_ShouldPassThroughWithoutBuffering() {
+        // Given
+        TailSamplingSpanHandler handler = handler(10, Duration.ofMinutes(1));
+        TraceContext context = TraceContext.newBuilder().traceId(1L).spanId(2L).sampled(true).build();
+
+        // When
+        boolean forward = handler.end(context, new MutableSpan(), SpanHandler.Cause.FINISHED);
+
+        // Then
+        assertTrue(forward);
+        assertTrue(exported.isEmpty());
+        assertEquals(0.0, meterRegistry.get("tracing.tail.buffered").gauge().value());
+    }
+
+    @Test
+    void finishTrace_WhenFastAndHealthy_ShouldDiscardWholeTrace() {
+        // Given
+        handler(10, Duration.ofMinutes(1));
+        Span root = tracer.newTrace().name("GET /api/v1/products").start(START);
+        tracer.newChild(root.context()).name("select").start(START + 10).finish(START + 20);
+
+        // When
+        root.finish(START + 1_000);
+
+        // Then
+        assertTrue(exported.isEmpty());
+        assertEquals(1.0, meterRegistry.get("tracing.tail.traces").tag("decision", "discarded").counter().count());
+        assertEquals(0.0, meterRegistry.get("tracing.tail.buffered").gauge().value());
+    }
+
+    @Test
+    void finishTrace_WhenRootReachesLatencyThreshold_ShouldExportChildrenThenRoot() {
+        // Given
+        handler(10, Duration.ofMinutes(1));
+        Span root = tracer.newTrace().name("GET /api/v1/products").start(START);
+        tracer.newChild(root.context()).name("select").start(START + 10).finish(START + 99_000);
+
+        // When
+        root.finish(START + 100_000);
+
+        // Then
+        assertEquals(List.of("select", "GET /api/v1/products"), exportedNames());
+        assertEquals(1.0, meterRegistry.get("tracing.tail.traces").tag("decision", "kept").counter().count());
+    }
+
+    @Test
+    void finishTrace_WhenChildErrored_ShouldKeepFastTrace() {
+        // Given
+        handler(10, Duration.ofMinutes(1));
+        Span root = tracer.newTrace().name("GET /api/v1/products").start(START);
+        tracer.newChild(root.context()).name("select").start(START + 10)
+                .error(new IllegalStateException("connection reset")).finish(START + 20);
+
+        // When
+        root.finish(START + 1_000);
+
+        // Then
+        assertEquals(List.of("select", "GET /api/v1/products"), exportedNames());
+    }
+
+    @Test
+    void finishTrace_WhenRootHasServerErrorStatus_ShouldKeepFastTrace() {
+        // Given
+        handler(10, Duration.ofMinutes(1));
+        Span root = tracer.newTrace().name("GET /api/v1/products").tag("http.status_code", "502").start(START);
+
+        // When
+        root.finish(START + 1_000);
+
+        // Then
+        assertEquals(List.of("GET /api/v1/products"), exportedNames());
+    }
+
+    @Test
+    void end_WhenBufferFull_ShouldDropExtraSpansAndCountOverflow() {
+        // Given
+        handler(2, Duration.ofMinutes(1));
+        Span root = tracer.newTrace().name("GET /api/v1/products").start(START);
+        for (int i = 0; i < 3; i++) {
+            tracer.newChild(root.context()).name("select-" + i).start(START + i).finish(START + i + 1);
+        }
+
+        // When
+        root.finish(START + 100_000);
+
+        // Then
+        assertEquals(List.of("select-0", "select-1", "GET /api/v1/products"), exportedNames());
+        assertEquals(1.0, meterRegistry.get("tracing.tail.overflow").counter().count());
+        assertEquals(0.0, meterRegistry.get("tracing.tail.buffered").gauge().value());
+    }
+
+    @Test
+    void sweep_ShouldDropTracesOlderThanMaxAge() {
+        // Given
+        TailSamplingSpanHandler handler = handler(10, Duration.ZERO);
+        Span root = tracer.newTrace().name("GET /api/v1/products").start(START);
+        tracer.newChild(root.context()).name("select").start(START + 10).finish(START + 20);
+        assertEquals(1.0, meterRegistry.get("tracing.tail.buffered").gauge().value());
+
+        // When
+        handler.sweep();
+        root.finish(START + 100_000);
+
+        // Then
+        assertEquals(0.0, meterRegistry.get("tracing.tail.buffered").gauge().value());
+        assertEquals(List.of("GET /api/v1/products"), exportedNames());
+    }
+
+    private TailSamplingSpanHandler handler(int maxBufferedSpans, Duration maxTraceAge) {
+        TailSamplingSpanHandler handler = new TailSamplingSpanHandler(
+                spanHandlers, meterRegistry, Duration.ofMillis(100), maxBufferedSpans, maxTraceAge);
+        SpanHandler exporter = new SpanHandler() {
+            @Override
+            public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+                assertEquals(Boolean.TRUE, context.sampled());
+                exported.add(span);
+                return true;
+            }
+        };
+        lenient().when(spanHandlers.orderedStream()).thenAnswer(invocation -> Stream.of(handler, exporter));
+        tracing = Tracing.newBuilder()
+                .sampler(Sampler.NEVER_SAMPLE)
+                .alwaysSampleLocal()
+                .addSpanHandler(handler)
+                .build();
+        tracer = tracing.tracer();
+        return handler;
+    }
+
+    private List<String> exportedNames() {
+        return exported.stream().map(MutableSpan::name).toList();
+    }
+
+    private static MutableSpan span(String tag, String value) {
+        MutableSpan span = new MutableSpan();
+        if (tag != null) {
+            span.tag(tag, value);
+        }
+        return span;
+    }
+}
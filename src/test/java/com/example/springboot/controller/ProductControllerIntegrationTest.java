@@ -2,6 +2,7 @@ package com.example.springboot.controller;
 
 import com.example.springboot.dto.ProductRequest;
 import com.example.springboot.entity.Product;
+import com.example.springboot.money.Money;
 import com.example.springboot.repository.ProductRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,10 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -53,7 +58,7 @@ class ProductControllerIntegrationTest {
         Product product = new Product();
         product.setName("Test Product");
         product.setDescription("Test Description");
-        product.setPrice(99.99);
+        product.setPrice(Money.of(new BigDecimal("99.99"), Currency.getInstance("USD")));
         product.setIsActive(true);
         productRepository.save(product);
 
@@ -72,7 +77,7 @@ class ProductControllerIntegrationTest {
         Product product = new Product();
         product.setName("Test Product");
         product.setDescription("Test Description");
-        product.setPrice(99.99);
+        product.setPrice(Money.of(new BigDecimal("99.99"), Currency.getInstance("USD")));
         product.setIsActive(true);
         Product savedProduct = productRepository.save(product);
 
@@ -83,6 +88,30 @@ class ProductControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.name").value("Test Product"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void getProductById_WithMatchingETag_ShouldReturn304() throws Exception {
+        // Given
+        Product product = new Product();
+        product.setName("Test Product");
+        product.setDescription("Test Description");
+        product.setPrice(Money.of(new BigDecimal("99.99"), Currency.getInstance("USD")));
+        product.setIsActive(true);
+        Product savedProduct = productRepository.save(product);
+
+        String eTag = mockMvc.perform(get("/api/v1/products/" + savedProduct.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", containsString("max-age")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/" + savedProduct.getId())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void getProductById_WhenProductDoesNotExist_ShouldReturn404() throws Exception {
@@ -98,7 +127,7 @@ class ProductControllerIntegrationTest {
         ProductRequest request = new ProductRequest();
         request.setName("New Product");
         request.setDescription("New Description");
-        request.setPrice(149.99);
+        request.setPrice(new BigDecimal("149.99"));
 
         // When & Then
         mockMvc.perform(post("/api/v1/products")
@@ -115,7 +144,7 @@ class ProductControllerIntegrationTest {
         // Given
         ProductRequest request = new ProductRequest();
         request.setName(""); // Invalid: empty name
-        request.setPrice(-10.0); // Invalid: negative price
+        request.setPrice(new BigDecimal("-10.00")); // Invalid: negative price
 
         // When & Then
         mockMvc.perform(post("/api/v1/products")
@@ -131,14 +160,14 @@ class ProductControllerIntegrationTest {
         Product product = new Product();
         product.setName("Original Name");
         product.setDescription("Original Description");
-        product.setPrice(99.99);
+        product.setPrice(Money.of(new BigDecimal("99.99"), Currency.getInstance("USD")));
         product.setIsActive(true);
         Product savedProduct = productRepository.save(product);
 
         ProductRequest request = new ProductRequest();
         request.setName("Updated Name");
         request.setDescription("Updated Description");
-        request.setPrice(199.99);
+        request.setPrice(new BigDecimal("199.99"));
 
         // When & Then
         mockMvc.perform(put("/api/v1/products/" + savedProduct.getId())
@@ -156,7 +185,7 @@ class ProductControllerIntegrationTest {
         Product product = new Product();
         product.setName("To Delete");
         product.setDescription("Will be deleted");
-        product.setPrice(99.99);
+        product.setPrice(Money.of(new BigDecimal("99.99"), Currency.getInstance("USD")));
         product.setIsActive(true);
         Product savedProduct = productRepository.save(product);
 
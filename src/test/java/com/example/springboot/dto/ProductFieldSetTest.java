@@ -0,0 +1,39 @@
+package com.example.springboot.dto;
+
+import com.example.springboot.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFieldSetTest {
+
+    @Test
+    void parse_ShouldAcceptVersionWithoutLoadingDescription() {
+        // When
+        ProductFieldSet fields = ProductFieldSet.parse("version,id");
+
+        // Then
+        assertEquals("id,version", fields.cacheKey());
+        assertEquals(ProductListItem.class, fields.projectionType());
+    }
+
+    @Test
+    void select_ShouldIncludeVersion() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        ProductResponse product = new ProductResponse(1L, "Test Product", "Description",
+                Money.ofMinor(9999, Currency.getInstance("USD")), now, now, true, 3L);
+
+        // When
+        Map<String, Object> row = ProductFieldSet.parse("id,version").select(product);
+
+        // Then
+        assertEquals(List.of("id", "version"), List.copyOf(row.keySet()));
+        assertEquals(3L, row.get("version"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.springboot.dto.records;
+
+import com.example.springboot.dto.ApiResponse;
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.money.Money;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordDtoModuleTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new RecordDtoModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void serialize_ShouldMatchBeanJson() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        ProductResponse bean = new ProductResponse(1L, "Test Product", null,
+                Money.ofMinor(9999, Currency.getInstance("USD")), now, now, true, 1L);
+        ApiResponse<List<ProductResponse>> beanEnvelope =
+                new ApiResponse<>("success", "Products retrieved successfully", List.of(bean), now, null, null, null);
+        ApiResponseRecord<List<ProductResponseRecord>> recordEnvelope = new ApiResponseRecord<>(
+                "success", "Products retrieved successfully", List.of(ProductResponseRecord.from(bean)), now, null, null, null);
+
+        // When / Then
+        assertEquals(mapper.readTree(mapper.writeValueAsBytes(beanEnvelope)),
+                mapper.readTree(mapper.writeValueAsBytes(recordEnvelope)));
+    }
+
+    @Test
+    void deserialize_ShouldBindThroughCanonicalConstructor() throws Exception {
+        // Given
+        String json = "{\"name\":\"Test Product\",\"unknown\":{\"nested\":[1,2]},\"price\":\"99.5\"}";
+
+        // When
+        ProductRequestRecord request = mapper.readValue(json, ProductRequestRecord.class);
+
+        // Then
+        assertEquals(new ProductRequestRecord("Test Product", null, new BigDecimal("99.5"), null), request);
+    }
+}
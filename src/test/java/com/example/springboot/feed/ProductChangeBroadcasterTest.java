@@ -0,0 +1,149 @@
+package com.example.springboot.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductChangeBroadcasterTest {
+
+    private ProductChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = broadcaster();
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayMissedEvents() {
+        // Given
+        Flux<ServerSentEvent<String>> live = broadcaster.subscribe(null).orElseThrow();
+        broadcaster.publish(0, 10, "{\"type\":\"CREATED\",\"productId\":1}");
+        broadcaster.publish(1, 3, "{\"type\":\"UPDATED\",\"productId\":2}");
+        List<ServerSentEvent<String>> seen = live.take(2).collectList().block(Duration.ofSeconds(1));
+        assertNotNull(seen);
+        broadcaster.publish(0, 11, "{\"type\":\"DELETED\",\"productId\":1}");
+
+        // When
+        List<ServerSentEvent<String>> resumed = broadcaster.subscribe(seen.get(0).id()).orElseThrow()
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(1));
+
+        // Then
+        assertEquals("0:10", seen.get(0).id());
+        assertEquals("0:10,1:3", seen.get(1).id());
+        assertNotNull(resumed);
+        assertEquals(List.of("UPDATED", "DELETED"), resumed.stream().map(ServerSentEvent::event).toList());
+        assertEquals("0:11,1:3", resumed.get(1).id());
+    }
+
+    @Test
+    void subscribe_WithIdFromAnotherInstance_ShouldResumeAtSamePosition() {
+        // Given: both instances read the same records, so their ids agree
+        ProductChangeBroadcaster other = broadcaster();
+        for (ProductChangeBroadcaster instance : List.of(broadcaster, other)) {
+            instance.publish(0, 10, "{\"type\":\"CREATED\",\"productId\":1}");
+            instance.publish(2, 7, "{\"type\":\"CREATED\",\"productId\":3}");
+            instance.publish(0, 11, "{\"type\":\"UPDATED\",\"productId\":1}");
+        }
+
+        // When
+        ServerSentEvent<String> next = other.subscribe("0:10").orElseThrow().blockFirst(Duration.ofSeconds(1));
+
+        // Then
+        assertNotNull(next);
+        assertEquals("CREATED", next.event());
+        assertEquals("0:10,2:7", next.id());
+    }
+
+    @Test
+    void subscribe_BeyondReplayWindow_ShouldStartWithReset() {
+        // Given: the window holds 4 events, so offset 0 has been dropped
+        for (long offset = 0; offset < 6; offset++) {
+            broadcaster.publish(0, offset, "{\"type\":\"UPDATED\",\"productId\":1}");
+        }
+
+        // When
+        ServerSentEvent<String> first = broadcaster.subscribe("0:0").orElseThrow().blockFirst(Duration.ofSeconds(1));
+
+        // Then
+        assertNotNull(first);
+        assertEquals(ProductChangeBroadcaster.RESET, first.event());
+        assertEquals("0:5", first.id());
+    }
+
+    @Test
+    void subscribe_WithMalformedId_ShouldStartWithReset() {
+        // Given
+        broadcaster.publish(0, 1, "{\"type\":\"CREATED\",\"productId\":1}");
+
+        // When
+        ServerSentEvent<String> first = broadcaster.subscribe("elsewhere-7").orElseThrow()
+                .blockFirst(Duration.ofSeconds(1));
+
+        // Then
+        assertNotNull(first);
+        assertEquals(ProductChangeBroadcaster.RESET, first.event());
+    }
+
+    @Test
+    void publish_WhenRecordIsRedelivered_ShouldNotEmitTwice() {
+        // Given
+        broadcaster.publish(0, 10, "{\"type\":\"CREATED\",\"productId\":1}");
+        broadcaster.publish(0, 10, "{\"type\":\"CREATED\",\"productId\":1}");
+        broadcaster.publish(0, 11, "{\"type\":\"UPDATED\",\"productId\":1}");
+
+        // When
+        List<ServerSentEvent<String>> replayed = broadcaster.subscribe("0:9").orElseThrow()
+                .take(Duration.ofMillis(200))
+                .filter(event -> event.event() != null)
+                .collectList()
+                .block(Duration.ofSeconds(1));
+
+        // Then
+        assertNotNull(replayed);
+        assertEquals(List.of("0:10", "0:11"), replayed.stream().map(ServerSentEvent::id).toList());
+    }
+
+    @Test
+    void onPartitionsAssigned_ShouldSeekBackByReplaySize() {
+        // Given
+        ConsumerSeekAware.ConsumerSeekCallback callback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+
+        // When
+        broadcaster.onPartitionsAssigned(Map.of(
+                new TopicPartition(ProductChangeBroadcaster.TOPIC, 0), 0L,
+                new TopicPartition(ProductChangeBroadcaster.TOPIC, 1), 0L), callback);
+
+        // Then
+        verify(callback).seekRelative(ProductChangeBroadcaster.TOPIC, 0, -4, false);
+        verify(callback).seekRelative(ProductChangeBroadcaster.TOPIC, 1, -4, false);
+    }
+
+    @Test
+    void subscribe_OverLimit_ShouldBeRejected() {
+        // Given
+        broadcaster.subscribe(null).orElseThrow();
+        broadcaster.subscribe(null).orElseThrow();
+
+        // When / Then
+        assertTrue(broadcaster.subscribe(null).isEmpty());
+    }
+
+    private static ProductChangeBroadcaster broadcaster() {
+        return new ProductChangeBroadcaster(new ObjectMapper(), new SimpleMeterRegistry(),
+                4, 16, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+}
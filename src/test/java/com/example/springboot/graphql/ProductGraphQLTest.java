@@ -0,0 +1,201 @@
+package com.example.springboot.graphql;
+
+import com.example.springboot.entity.Product;
+import com.example.springboot.entity.User;
+import com.example.springboot.money.Money;
+import com.example.springboot.repository.ProductRepository;
+import com.example.springboot.repository.UserRepository;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductGraphQLTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GraphQLDataLoaders dataLoaders;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataLoaders = new GraphQLDataLoaders(productRepository, userRepository, transactionManager, 500);
+        GraphQLConfig config = new GraphQLConfig();
+        graphQL = config.graphQL(config.graphQLSchema(new ProductGraphQLFetchers(productRepository, dataLoaders)),
+                new CachingPreparsedDocumentProvider(10), 5, 200);
+    }
+
+    @Test
+    void products_WithSharedCreator_ShouldLoadCreatorsInOneBatch() {
+        // Given
+        User author = new User();
+        author.setId(7L);
+        author.setUsername("alice");
+        when(productRepository.findByIdInAndIsActiveTrue(any()))
+                .thenReturn(List.of(product(1L, 7L), product(2L, 7L), product(3L, 7L)));
+        when(userRepository.findAllById(any())).thenReturn(List.of(author));
+
+        // When
+        ExecutionResult result = execute("{ products(ids: [\"1\", \"2\", \"3\"]) { name price { amount currency } createdBy { username } } }");
+
+        // Then
+        assertTrue(result.getErrors().isEmpty(), () -> result.getErrors().toString());
+        Map<String, List<Map<String, Object>>> data = result.getData();
+        assertEquals(3, data.get("products").size());
+        assertEquals(Map.of("username", "alice"), data.get("products").get(0).get("createdBy"));
+        assertEquals(Map.of("amount", "12.50", "currency", "USD"), data.get("products").get(0).get("price"));
+        verify(productRepository, times(1)).findByIdInAndIsActiveTrue(Set.of(1L, 2L, 3L));
+        verify(userRepository, times(1)).findAllById(Set.of(7L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void user_WithoutAdminRole_ShouldBeDeniedWithoutLoading() {
+        // Given
+        authenticateAs("ROLE_USER");
+
+        // When
+        ExecutionResult result = execute("{ user(id: \"7\") { username } users(ids: [\"7\"]) { username } }");
+
+        // Then
+        assertEquals(2, result.getErrors().size());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void user_AsAdmin_ShouldLoadPersonalDetailsAndLimitProductsInQuery() {
+        // Given
+        authenticateAs("ROLE_ADMIN");
+        when(userRepository.findAllById(any())).thenReturn(List.of(author()));
+        when(productRepository.findFirstActiveByCreators(Set.of(7L), 2))
+                .thenReturn(List.of(product(1L, 7L), product(2L, 7L)));
+
+        // When
+        ExecutionResult result = execute("{ user(id: \"7\") { fullName role products(first: 2) { name } } }");
+
+        // Then
+        assertTrue(result.getErrors().isEmpty(), () -> result.getErrors().toString());
+        Map<String, Map<String, Object>> data = result.getData();
+        assertEquals("Alice Doe", data.get("user").get("fullName"));
+        assertEquals("ADMIN", data.get("user").get("role"));
+        assertEquals(2, ((List<?>) data.get("user").get("products")).size());
+        verify(productRepository).findFirstActiveByCreators(Set.of(7L), 2);
+    }
+
+    @Test
+    void createdBy_WithoutAdminRole_ShouldHidePersonalDetails() {
+        // Given
+        authenticateAs("ROLE_USER");
+        when(productRepository.findByIdInAndIsActiveTrue(any())).thenReturn(List.of(product(1L, 7L)));
+        when(userRepository.findAllById(any())).thenReturn(List.of(author()));
+
+        // When
+        ExecutionResult result = execute("{ product(id: \"1\") { createdBy { username fullName role } } }");
+
+        // Then
+        assertTrue(result.getErrors().isEmpty(), () -> result.getErrors().toString());
+        Map<String, Map<String, Map<String, Object>>> data = result.getData();
+        Map<String, Object> createdBy = data.get("product").get("createdBy");
+        assertEquals("alice", createdBy.get("username"));
+        assertNull(createdBy.get("fullName"));
+        assertNull(createdBy.get("role"));
+    }
+
+    @Test
+    void execute_WhenPageSizeMultipliesPastComplexityLimit_ShouldRejectWithoutLoading() {
+        // When: 50 products x (content + name + createdBy + username) is well over 200
+        ExecutionResult result = execute("{ productPage(size: 50) { content { name createdBy { username } } } }");
+
+        // Then
+        assertFalse(result.getErrors().isEmpty());
+        verifyNoInteractions(productRepository, userRepository);
+    }
+
+    @Test
+    void complexity_ShouldCountDefaultPageSize() throws Exception {
+        // Given: productPage defaults to size 20, so content { name } costs 1 + 20 * 2
+        GraphQLConfig config = new GraphQLConfig();
+        GraphQL strict = config.graphQL(config.graphQLSchema(new ProductGraphQLFetchers(productRepository, dataLoaders)),
+                new CachingPreparsedDocumentProvider(10), 5, 40);
+
+        // When
+        ExecutionResult result = strict.execute(ExecutionInput.newExecutionInput("{ productPage { content { name } } }")
+                .dataLoaderRegistry(dataLoaders.newRegistry())
+                .build());
+
+        // Then
+        assertFalse(result.getErrors().isEmpty());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void execute_WithQueryDeeperThanLimit_ShouldRejectWithoutLoading() {
+        // When
+        ExecutionResult result = execute(
+                "{ user(id: \"7\") { products { createdBy { products { createdBy { username } } } } } }");
+
+        // Then
+        assertFalse(result.getErrors().isEmpty());
+        verifyNoInteractions(productRepository, userRepository);
+    }
+
+    private ExecutionResult execute(String query) {
+        return graphQL.execute(ExecutionInput.newExecutionInput(query)
+                .dataLoaderRegistry(dataLoaders.newRegistry())
+                .build());
+    }
+
+    private static void authenticateAs(String authority) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "caller", null, List.of(new SimpleGrantedAuthority(authority))));
+    }
+
+    private static User author() {
+        User author = new User();
+        author.setId(7L);
+        author.setUsername("alice");
+        author.setFullName("Alice Doe");
+        author.setRole(User.Role.ADMIN);
+        return author;
+    }
+
+    private static Product product(Long id, Long createdBy) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setPrice(Money.ofMinor(1250, Currency.getInstance("USD")));
+        product.setIsActive(true);
+        product.setCreatedBy(createdBy);
+        return product;
+    }
+}
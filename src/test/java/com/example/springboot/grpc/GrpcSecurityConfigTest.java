@@ -0,0 +1,147 @@
+package com.example.springboot.grpc;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.entity.User;
+import com.example.springboot.grpc.v1.BulkUpsertProductsRequest;
+import com.example.springboot.grpc.v1.GetProductRequest;
+import com.example.springboot.grpc.v1.Product;
+import com.example.springboot.grpc.v1.ProductInput;
+import com.example.springboot.grpc.v1.ProductServiceGrpc;
+import com.example.springboot.money.Money;
+import com.example.springboot.security.JwtAuthenticationProvider;
+import com.example.springboot.security.JwtService;
+import com.example.springboot.service.ProductService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.jsonwebtoken.MalformedJwtException;
+import jakarta.validation.Validator;
+import net.devh.boot.grpc.server.security.interceptors.AuthorizationCheckingServerInterceptor;
+import net.devh.boot.grpc.server.security.interceptors.DefaultAuthenticatingServerInterceptor;
+import net.devh.boot.grpc.server.security.interceptors.ExceptionTranslatingServerInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GrpcSecurityConfigTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // the same beans and interceptor order the starter's security auto-configuration wires up
+        GrpcSecurityConfig config = new GrpcSecurityConfig();
+        ProviderManager authenticationManager =
+                new ProviderManager(new JwtAuthenticationProvider(jwtService, userDetailsService));
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(
+                        new ProductGrpcService(productService, transactionTemplate, validator),
+                        new AuthorizationCheckingServerInterceptor(config.grpcAccessDecisionManager(),
+                                config.grpcSecurityMetadataSource()),
+                        new DefaultAuthenticatingServerInterceptor(authenticationManager,
+                                config.grpcAuthenticationReader()),
+                        new ExceptionTranslatingServerInterceptor()))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void bulkUpsertProducts_WithoutToken_ShouldBeUnauthenticated() {
+        // Given
+        BulkUpsertProductsRequest request = BulkUpsertProductsRequest.newBuilder()
+                .addProducts(ProductInput.newBuilder().setName("Product").setPriceMinor(999))
+                .build();
+
+        // When
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> ProductServiceGrpc.newBlockingStub(channel).bulkUpsertProducts(request));
+
+        // Then
+        assertEquals(Status.Code.UNAUTHENTICATED, e.getStatus().getCode());
+        verifyNoInteractions(productService, transactionTemplate);
+    }
+
+    @Test
+    void getProduct_WithInvalidToken_ShouldBeUnauthenticated() {
+        // Given
+        when(jwtService.extractUsername("forged")).thenThrow(new MalformedJwtException("bad"));
+
+        // When
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub("forged").getProduct(GetProductRequest.newBuilder().setId(1L).build()));
+
+        // Then
+        assertEquals(Status.Code.UNAUTHENTICATED, e.getStatus().getCode());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void getProduct_WithValidUserToken_ShouldBeServed() {
+        // Given
+        User user = new User();
+        user.setUsername("alice");
+        user.setRole(User.Role.USER);
+        when(jwtService.extractUsername("valid")).thenReturn("alice");
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(user);
+        when(jwtService.isTokenValid("valid", user)).thenReturn(true);
+        when(productService.getProductById(1L)).thenReturn(ProductResponse.builder()
+                .id(1L).name("Product").price(Money.ofMinor(999, Currency.getInstance("USD"))).isActive(true)
+                .build());
+
+        // When
+        Product product = stub("valid").getProduct(GetProductRequest.newBuilder().setId(1L).build());
+
+        // Then
+        assertEquals(999, product.getPriceMinor());
+    }
+
+    private ProductServiceGrpc.ProductServiceBlockingStub stub(String token) {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        return ProductServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+}
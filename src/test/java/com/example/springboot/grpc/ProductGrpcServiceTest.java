@@ -0,0 +1,163 @@
+package com.example.springboot.grpc;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.grpc.v1.BulkUpsertProductsRequest;
+import com.example.springboot.grpc.v1.BulkUpsertProductsResponse;
+import com.example.springboot.grpc.v1.ListProductsRequest;
+import com.example.springboot.grpc.v1.Product;
+import com.example.springboot.grpc.v1.ProductInput;
+import com.example.springboot.money.Money;
+import com.example.springboot.service.ProductService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductGrpcServiceTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ServerCallStreamObserver<Product> call;
+
+    @Mock
+    private StreamObserver<BulkUpsertProductsResponse> upsertObserver;
+
+    private ProductGrpcService grpcService;
+
+    @BeforeEach
+    void setUp() {
+        grpcService = new ProductGrpcService(productService, transactionTemplate, validator);
+    }
+
+    @Test
+    void listProducts_ShouldNotQueryBeforeTransportIsReady() {
+        // When
+        grpcService.listProducts(ListProductsRequest.getDefaultInstance(), call);
+
+        // Then
+        verify(call).setOnReadyHandler(any());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void listProducts_ShouldPageByLastIdAndCompleteAfterShortPage() {
+        // Given
+        when(call.isReady()).thenReturn(true);
+        when(productService.getActiveProductsAfter(0L, PAGE_SIZE)).thenReturn(products(1, PAGE_SIZE));
+        when(productService.getActiveProductsAfter(PAGE_SIZE, PAGE_SIZE)).thenReturn(products(PAGE_SIZE + 1, PAGE_SIZE + 3));
+
+        // When
+        onReadyHandler().run();
+
+        // Then
+        verify(call, times(PAGE_SIZE + 3)).onNext(any(Product.class));
+        verify(call).onCompleted();
+        verify(productService, times(2)).getActiveProductsAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void listProducts_WhenTransportFillsUp_ShouldFetchNextPageOnlyOnceReadyAgain() {
+        // Given
+        AtomicInteger budget = new AtomicInteger(PAGE_SIZE);
+        when(call.isReady()).thenAnswer(invocation -> budget.get() > 0);
+        doAnswer(invocation -> budget.decrementAndGet()).when(call).onNext(any(Product.class));
+        when(productService.getActiveProductsAfter(0L, PAGE_SIZE)).thenReturn(products(1, PAGE_SIZE));
+        when(productService.getActiveProductsAfter(PAGE_SIZE, PAGE_SIZE)).thenReturn(products(PAGE_SIZE + 1, PAGE_SIZE + 1));
+        Runnable onReady = onReadyHandler();
+
+        // When
+        onReady.run();
+
+        // Then
+        verify(productService, times(1)).getActiveProductsAfter(anyLong(), anyInt());
+        verify(call, never()).onCompleted();
+
+        // When
+        budget.set(PAGE_SIZE);
+        onReady.run();
+
+        // Then
+        verify(productService).getActiveProductsAfter(eq((long) PAGE_SIZE), eq(PAGE_SIZE));
+        verify(call, times(PAGE_SIZE + 1)).onNext(any(Product.class));
+        verify(call).onCompleted();
+    }
+
+    @Test
+    void listProducts_WhenCancelled_ShouldStopWithoutCompleting() {
+        // Given
+        when(call.isReady()).thenReturn(true);
+        when(call.isCancelled()).thenReturn(true);
+
+        // When
+        onReadyHandler().run();
+
+        // Then
+        verify(call, never()).onNext(any());
+        verify(call, never()).onCompleted();
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void bulkUpsertProducts_OverMaxBatchSize_ShouldRejectBeforeWriting() {
+        // Given
+        ReflectionTestUtils.setField(grpcService, "maxBatchSize", 2);
+        ProductInput input = ProductInput.newBuilder().setName("Product").setPriceMinor(999).build();
+        BulkUpsertProductsRequest request = BulkUpsertProductsRequest.newBuilder()
+                .addProducts(input).addProducts(input).addProducts(input)
+                .build();
+
+        // When / Then
+        assertThrows(ValidationException.class, () -> grpcService.bulkUpsertProducts(request, upsertObserver));
+        verifyNoInteractions(transactionTemplate, productService, upsertObserver);
+    }
+
+    private Runnable onReadyHandler() {
+        grpcService.listProducts(ListProductsRequest.getDefaultInstance(), call);
+        ArgumentCaptor<Runnable> handler = ArgumentCaptor.forClass(Runnable.class);
+        verify(call).setOnReadyHandler(handler.capture());
+        return handler.getValue();
+    }
+
+    private static List<ProductResponse> products(long fromId, long toId) {
+        LocalDateTime now = LocalDateTime.now();
+        Money price = Money.ofMinor(999, Currency.getInstance("USD"));
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> ProductResponse.builder()
+                        .id(id).name("Product " + id).price(price)
+                        .createdAt(now).updatedAt(now).isActive(true)
+                        .build())
+                .toList();
+    }
+}
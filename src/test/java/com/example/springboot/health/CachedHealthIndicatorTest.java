@@ -0,0 +1,195 @@
+package com.example.springboot.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedHealthIndicatorTest {
+
+    private final ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void health_ShouldServeCachedResultWithoutCheckingAgain() {
+        // Given
+        CountingIndicator indicator = new CountingIndicator(Clock.systemUTC(), Health.up().build());
+        indicator.refresh(Runnable::run, Duration.ofSeconds(1), Duration.ofMinutes(1)).join();
+
+        // When
+        Health first = indicator.health();
+        Health second = indicator.health();
+
+        // Then
+        assertEquals(Status.UP, first.getStatus());
+        assertEquals(Status.UP, second.getStatus());
+        assertEquals(1, indicator.checks.get());
+    }
+
+    @Test
+    void refresh_ShouldReportDownWhenCheckTimesOut() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CachedHealthIndicator indicator = new CountingIndicator(Clock.systemUTC(), null) {
+            @Override
+            protected Health check() throws Exception {
+                release.await();
+                return Health.up().build();
+            }
+        };
+
+        // When
+        indicator.refresh(executor, Duration.ofMillis(50), Duration.ofMinutes(1)).join();
+
+        // Then
+        Health health = indicator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Timed out after 50ms", health.getDetails().get("error"));
+        release.countDown();
+    }
+
+    @Test
+    void refresh_WhenCheckNeverReturns_ShouldHoldAtMostOneThreadAndNotStartAnother() throws Exception {
+        // Given
+        AtomicInteger checks = new AtomicInteger();
+        AtomicBoolean hung = new AtomicBoolean(true);
+        CachedHealthIndicator indicator = new CountingIndicator(Clock.systemUTC(), null) {
+            @Override
+            protected Health check() {
+                checks.incrementAndGet();
+                while (hung.get()) {
+                    // ignores interrupts, like a blocking socket read without a timeout
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+                return Health.up().build();
+            }
+        };
+        indicator.refresh(executor, Duration.ofMillis(50), Duration.ofMinutes(1)).join();
+
+        // When
+        indicator.refresh(executor, Duration.ofMillis(50), Duration.ofMinutes(1)).join();
+        indicator.refresh(executor, Duration.ofMillis(50), Duration.ofMinutes(1)).join();
+
+        // Then
+        assertEquals(1, checks.get());
+        assertTrue(executor.getQueue().isEmpty(), "no further checks queued behind the hung one");
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+
+        // When the dependency finally answers, the next refresh checks again
+        hung.set(false);
+        awaitRefresh(indicator, checks, 2);
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void refresh_OnTimeout_ShouldInterruptCheckAndFreeItsThread() throws Exception {
+        // Given
+        AtomicInteger checks = new AtomicInteger();
+        CachedHealthIndicator indicator = new CountingIndicator(Clock.systemUTC(), null) {
+            @Override
+            protected Health check() throws Exception {
+                if (checks.incrementAndGet() == 1) {
+                    new CountDownLatch(1).await();
+                }
+                return Health.up().build();
+            }
+        };
+
+        // When
+        indicator.refresh(executor, Duration.ofMillis(50), Duration.ofMinutes(1)).join();
+
+        // Then
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+        awaitRefresh(indicator, checks, 2);
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    private void awaitRefresh(CachedHealthIndicator indicator, AtomicInteger checks, int expectedChecks)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (checks.get() < expectedChecks && System.nanoTime() < deadline) {
+            indicator.refresh(executor, Duration.ofSeconds(1), Duration.ofMinutes(1)).join();
+            Thread.sleep(10);
+        }
+        assertEquals(expectedChecks, checks.get());
+    }
+
+    @Test
+    void health_ShouldReportDownWhenResultIsStale() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        CachedHealthIndicator indicator = new CountingIndicator(clock, Health.up().build());
+        indicator.refresh(Runnable::run, Duration.ofSeconds(1), Duration.ofSeconds(30)).join();
+
+        // When
+        clock.instant = clock.instant.plusSeconds(31);
+
+        // Then
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+    }
+
+    private static class CountingIndicator extends CachedHealthIndicator {
+
+        private final AtomicInteger checks = new AtomicInteger();
+        private final Health result;
+
+        CountingIndicator(Clock clock, Health result) {
+            super(clock);
+            this.result = result;
+        }
+
+        @Override
+        protected Health check() throws Exception {
+            checks.incrementAndGet();
+            return result;
+        }
+
+        @Override
+        protected Health.Builder describe(Health.Builder builder) {
+            return builder.withDetail("dependency", "test");
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public java.time.ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.springboot.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlLogSamplingTurboFilterTest {
+
+    private Logger sqlLogger;
+    private Logger bindLogger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        SqlLogSamplingTurboFilter sampling = new SqlLogSamplingTurboFilter();
+        sampling.setContext(context);
+        sampling.setSampleRate(2);
+        sampling.start();
+        context.addTurboFilter(sampling);
+
+        sqlLogger = context.getLogger("org.hibernate.SQL");
+        sqlLogger.setLevel(Level.DEBUG);
+        bindLogger = context.getLogger("org.hibernate.orm.jdbc.bind");
+        bindLogger.setLevel(Level.TRACE);
+    }
+
+    @Test
+    void bindLevelCheck_ShouldFollowTheCurrentStatementsSample() {
+        // Given: the first statement is sampled, the second is not
+        sqlLogger.debug("select 1");
+
+        // When / Then
+        assertTrue(bindLogger.isTraceEnabled());
+        sqlLogger.debug("select 2");
+        assertFalse(bindLogger.isTraceEnabled());
+    }
+
+    @Test
+    void bindLevelCheck_BeforeAnyStatement_ShouldBeDenied() {
+        assertFalse(bindLogger.isTraceEnabled());
+    }
+
+    @Test
+    void statementLevelCheck_ShouldNotAdvanceTheSample() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(sqlLogger.isDebugEnabled());
+        }
+        sqlLogger.debug("select 1");
+
+        // Then: the first logged statement is still the sampled one
+        assertTrue(bindLogger.isTraceEnabled());
+    }
+}
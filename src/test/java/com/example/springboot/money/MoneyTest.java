@@ -0,0 +1,45 @@
+package com.example.springboot.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    void of_ShouldStoreExactMinorUnits() {
+        // When
+        Money price = Money.of(new BigDecimal("0.30"), USD);
+
+        // Then
+        assertEquals(30L, price.amountMinor());
+        assertEquals(Money.of(new BigDecimal("0.1"), USD).amountMinor() + Money.of(new BigDecimal("0.2"), USD).amountMinor(),
+                price.amountMinor());
+    }
+
+    @Test
+    void of_WithMoreDecimalsThanTheCurrency_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("9.999"), USD));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("100.5"), JPY));
+    }
+
+    @Test
+    void serialize_ShouldWriteCurrencyDecimalsAsNumber() throws Exception {
+        // Given
+        ObjectMapper mapper = new ObjectMapper();
+
+        // When / Then
+        assertEquals("999.99", mapper.writeValueAsString(Money.ofMinor(99999, USD)));
+        assertEquals("0.05", mapper.writeValueAsString(Money.ofMinor(5, USD)));
+        assertEquals("1000.00", mapper.writeValueAsString(Money.ofMinor(100000, USD)));
+        assertEquals("1500", mapper.writeValueAsString(Money.ofMinor(1500, JPY)));
+    }
+}
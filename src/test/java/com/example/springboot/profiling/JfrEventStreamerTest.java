@@ -0,0 +1,88 @@
+package com.example.springboot.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventStreamerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JfrEventStreamer streamer;
+
+    @AfterEach
+    void tearDown() {
+        if (streamer != null) {
+            streamer.stop();
+        }
+    }
+
+    @Test
+    void start_WhenDisabled_ShouldNotOpenStream() {
+        // Given
+        streamer = streamer(false);
+
+        // When
+        streamer.start();
+
+        // Then
+        assertFalse(streamer.isRunning());
+        assertTrue(streamer.topAllocationSites(10).isEmpty());
+    }
+
+    @Test
+    void startStop_ShouldOpenAndCloseStreamAndTolerateRepeatedStop() {
+        // Given
+        streamer = streamer(true);
+
+        // When
+        streamer.start();
+
+        // Then
+        assertTrue(streamer.isRunning());
+        streamer.stop();
+        assertFalse(streamer.isRunning());
+        streamer.stop();
+        assertFalse(streamer.isRunning());
+    }
+
+    @Test
+    void start_ShouldAttributeSampledAllocationsToApplicationFrames() throws Exception {
+        // Given
+        streamer = streamer(true);
+        streamer.start();
+
+        // When
+        Map<String, Long> sites = Map.of();
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (sites.isEmpty() && System.nanoTime() < deadline) {
+            allocate();
+            Thread.sleep(50);
+            sites = streamer.topAllocationSites(5);
+        }
+
+        // Then
+        assertFalse(sites.isEmpty(), "no allocation samples streamed");
+        assertTrue(sites.keySet().stream().anyMatch(site -> site.startsWith("com.example.springboot.")), sites::toString);
+        assertFalse(meterRegistry.find("jfr.allocation.sampled").counters().isEmpty());
+    }
+
+    private JfrEventStreamer streamer(boolean enabled) {
+        return new JfrEventStreamer(meterRegistry, enabled, "1000/s",
+                Duration.ofMillis(10), Duration.ofMillis(20), 50);
+    }
+
+    private static int allocate() {
+        List<byte[]> chunks = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            chunks.add(new byte[4096]);
+        }
+        return chunks.size();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.springboot.profiling;
+
+import com.example.springboot.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecordingServiceTest {
+
+    private JfrRecordingService recordingService;
+
+    @BeforeEach
+    void setUp() {
+        recordingService = new JfrRecordingService(Duration.ofMinutes(10), 10, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recordingService.closeAll();
+    }
+
+    @Test
+    void start_ShouldCapDurationAtConfiguredMaximum() {
+        // When
+        JfrRecordingService.RecordingInfo info = recordingService.start(null, Duration.ofHours(1));
+
+        // Then
+        assertEquals("RUNNING", info.getState());
+        assertEquals(Duration.ofMinutes(10), info.getDuration());
+        assertTrue(info.getName().startsWith("api-default-"));
+    }
+
+    @Test
+    void start_WithUnknownSettingsOrNonPositiveDuration_ShouldReject() {
+        assertThrows(ValidationException.class, () -> recordingService.start("everything", Duration.ofSeconds(5)));
+        assertThrows(ValidationException.class, () -> recordingService.start("profile", Duration.ZERO));
+        assertTrue(recordingService.list().isEmpty());
+    }
+
+    @Test
+    void start_WhenMaxRecordingsExist_ShouldRejectUntilOneIsDeleted() {
+        // Given
+        long id = recordingService.start("default", Duration.ofSeconds(30)).getId();
+
+        // When / Then
+        assertThrows(ValidationException.class, () -> recordingService.start("default", Duration.ofSeconds(30)));
+        recordingService.delete(id);
+        assertNotNull(recordingService.start("profile", Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void stopDumpDelete_ShouldWalkRecordingThroughItsLifecycle() throws Exception {
+        // Given
+        long id = recordingService.start("default", Duration.ofSeconds(30)).getId();
+
+        // When
+        JfrRecordingService.RecordingInfo stopped = recordingService.stop(id);
+        Path file = recordingService.dump(id);
+
+        // Then
+        try {
+            assertEquals("STOPPED", stopped.getState());
+            assertEquals("STOPPED", recordingService.stop(id).getState());
+            assertTrue(Files.size(file) > 0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        recordingService.delete(id);
+        assertTrue(recordingService.list().isEmpty());
+        assertThrows(ValidationException.class, () -> recordingService.stop(id));
+        recordingService.delete(id);
+    }
+
+    @Test
+    void closeAll_ShouldCloseAndForgetEveryRecording() {
+        // Given
+        long id = recordingService.start("default", Duration.ofSeconds(30)).getId();
+
+        // When
+        recordingService.closeAll();
+
+        // Then
+        assertTrue(recordingService.list().isEmpty());
+        assertThrows(ValidationException.class, () -> recordingService.dump(id));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.springboot.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1.0, 0);
+
+        // When / Then
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND, bucket.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRate() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 2.0, 0);
+        assertEquals(0, bucket.tryAcquire(0));
+
+        // When
+        long tooSoon = bucket.tryAcquire(SECOND / 4);
+        long afterRefill = bucket.tryAcquire(SECOND / 2);
+
+        // Then
+        assertEquals(SECOND / 4, tooSoon);
+        assertEquals(0, afterRefill);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotAccumulateBeyondCapacityWhileIdle() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1.0, 0);
+
+        // When
+        long later = 60 * SECOND;
+
+        // Then
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+}
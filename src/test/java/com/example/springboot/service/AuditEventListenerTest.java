@@ -0,0 +1,78 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.entity.cassandra.AuditLogEntry;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.event.UserRegisteredEvent;
+import com.example.springboot.money.Money;
+import com.example.springboot.repository.cassandra.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Currency;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEventListenerTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private AuditEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new AuditEventListener(new AuditLogService(auditLogRepository), () -> Optional.of(7L));
+        when(auditLogRepository.saveAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void onProductChanged_ShouldWriteAuditRowForActingUser() {
+        // Given
+        ProductResponse product = ProductResponse.builder()
+                .id(1L)
+                .name("Laptop")
+                .price(Money.ofMinor(99_999, Currency.getInstance("USD")))
+                .version(3L)
+                .build();
+
+        // When
+        listener.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product));
+
+        // Then
+        AuditLogEntry entry = savedEntry();
+        assertEquals("7", entry.getUserId());
+        assertEquals("UPDATED", entry.getAction());
+        assertEquals("product", entry.getResourceType());
+        assertEquals("1", entry.getResourceId());
+        assertEquals("name=Laptop, price=999.99 USD, version=3", entry.getDetails());
+    }
+
+    @Test
+    void onUserRegistered_ShouldWriteAuditRowForNewUser() {
+        // When
+        listener.onUserRegistered(new UserRegisteredEvent(42L, "alice"));
+
+        // Then
+        AuditLogEntry entry = savedEntry();
+        assertEquals("42", entry.getUserId());
+        assertEquals("REGISTERED", entry.getAction());
+        assertEquals("user", entry.getResourceType());
+        assertEquals("42", entry.getResourceId());
+    }
+
+    private AuditLogEntry savedEntry() {
+        ArgumentCaptor<AuditLogEntry> captor = ArgumentCaptor.forClass(AuditLogEntry.class);
+        verify(auditLogRepository).saveAsync(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.repository.ProductRepository;
+import com.example.springboot.repository.ProductRepository.CatalogFingerprint;
+import com.example.springboot.service.CatalogVersionTracker.CatalogVersion;
+import com.example.springboot.service.CatalogVersionTracker.ProductValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionTrackerTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache productCache;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private CatalogVersionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new CatalogVersionTracker(cacheManager, productRepository, Duration.ZERO, 100);
+    }
+
+    @Test
+    void catalogVersion_ShouldBeDerivedFromDataOnly() {
+        // Given
+        when(productRepository.findCatalogFingerprint()).thenReturn(fingerprint(10, 25));
+        CatalogVersionTracker otherInstance =
+                new CatalogVersionTracker(cacheManager, productRepository, Duration.ZERO, 100);
+
+        // When
+        CatalogVersion version = tracker.catalogVersion();
+
+        // Then
+        assertEquals(otherInstance.catalogVersion().eTag(), version.eTag());
+        assertEquals(0, version.lastModified() % 1000);
+    }
+
+    @Test
+    void catalogVersion_WhenChangedElsewhere_ShouldDropLocalCaches() {
+        // Given
+        when(productRepository.findCatalogFingerprint()).thenReturn(fingerprint(10, 25), fingerprint(10, 25), fingerprint(10, 26));
+        when(cacheManager.getCache(anyString())).thenReturn(productCache);
+        AtomicInteger loads = new AtomicInteger();
+        tracker.productValidator(1L, loader(3L, loads));
+        String before = tracker.catalogVersion().eTag();
+
+        // When
+        String after = tracker.catalogVersion().eTag();
+        tracker.productValidator(1L, loader(4L, loads));
+
+        // Then
+        assertNotEquals(before, after);
+        verify(productCache, times(2)).clear();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void productValidator_ShouldStayCachedWhileOnlyOtherProductsChange() {
+        // Given
+        when(productRepository.findCatalogFingerprint()).thenReturn(fingerprint(10, 25));
+        when(cacheManager.getCache(anyString())).thenReturn(productCache);
+        AtomicInteger loads = new AtomicInteger();
+        tracker.productValidator(1L, loader(3L, loads));
+
+        // When
+        tracker.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product(2L, 8L)));
+        ProductValidator unchanged = tracker.productValidator(1L, loader(3L, loads));
+        tracker.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product(1L, 4L)));
+        ProductValidator changed = tracker.productValidator(1L, loader(4L, loads));
+
+        // Then
+        assertEquals("\"product-1-v3\"", unchanged.eTag());
+        assertEquals(4L, changed.version());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void productValidator_WhenProductChangesDuringLoad_ShouldNotKeepLoadedVersion() {
+        // Given
+        when(productRepository.findCatalogFingerprint()).thenReturn(fingerprint(10, 25));
+        when(cacheManager.getCache(anyString())).thenReturn(productCache);
+
+        // When: the change commits after the load read version 3
+        ProductValidator loaded = tracker.productValidator(1L, id -> {
+            ProductResponse stale = product(id, 3L);
+            tracker.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product(id, 4L)));
+            return stale;
+        });
+        ProductValidator next = tracker.productValidator(1L, loader(4L, new AtomicInteger()));
+
+        // Then
+        assertEquals(3L, loaded.version());
+        assertEquals(4L, next.version());
+    }
+
+    private static Function<Long, ProductResponse> loader(Long version, AtomicInteger loads) {
+        return id -> {
+            loads.incrementAndGet();
+            return product(id, version);
+        };
+    }
+
+    private static ProductResponse product(Long id, Long version) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setVersion(version);
+        product.setUpdatedAt(LocalDateTime.of(2026, 10, 18, 12, 0));
+        return product;
+    }
+
+    private static CatalogFingerprint fingerprint(long rowCount, long versionSum) {
+        LocalDateTime lastUpdatedAt = LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123_000_000);
+        return new CatalogFingerprint() {
+            @Override
+            public long getRowCount() {
+                return rowCount;
+            }
+
+            @Override
+            public long getVersionSum() {
+                return versionSum;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdatedAt() {
+                return lastUpdatedAt;
+            }
+        };
+    }
+}
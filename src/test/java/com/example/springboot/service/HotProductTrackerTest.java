@@ -0,0 +1,34 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.event.ProductChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotProductTrackerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void onProductChanged_WhenDeleted_ShouldDropProductFromHottest() {
+        // Given
+        HotProductTracker tracker = new HotProductTracker(dir.resolve("hot-products.bin"), 10, 1024);
+        for (int i = 0; i < 5; i++) {
+            tracker.recordAccess(1L);
+        }
+        tracker.recordAccess(2L);
+
+        // When
+        tracker.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.DELETED,
+                ProductResponse.builder().id(1L).build()));
+
+        // Then
+        assertEquals(List.of(2L), tracker.hottest(10));
+    }
+}
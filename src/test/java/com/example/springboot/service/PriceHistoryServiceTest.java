@@ -0,0 +1,138 @@
+package com.example.springboot.service;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.example.springboot.dto.ProductResponse;
+import com.example.springboot.entity.cassandra.PriceRollup;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.money.Money;
+import com.example.springboot.repository.cassandra.PriceHistoryRepository;
+import com.example.springboot.repository.cassandra.PriceHistoryRepository.RollupPartial;
+import com.example.springboot.repository.cassandra.PriceHistoryRepository.WriterRollup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceHistoryServiceTest {
+
+    @Mock
+    private PriceHistoryRepository priceHistoryRepository;
+
+    private PriceHistoryService priceHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        priceHistoryService = new PriceHistoryService(priceHistoryRepository, Clock.systemUTC(), 500, Duration.ofDays(400),
+                Duration.ofMillis(200));
+    }
+
+    @Test
+    void getRollups_ShouldMergeRowsOfAllWritersPerPeriod() {
+        // Given
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to = Instant.parse("2024-01-01T02:00:00Z");
+        Instant firstHour = from;
+        Instant secondHour = from.plus(Duration.ofHours(1));
+        when(priceHistoryRepository.findRollupPartials(1L, PriceRollup.Resolution.HOUR, from, to))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        new WriterRollup(UUID.randomUUID(), new RollupPartial(secondHour, 12.0, 12.0, 12.0, 1)),
+                        new WriterRollup(UUID.randomUUID(), new RollupPartial(firstHour, 8.0, 10.0, 18.0, 2)),
+                        new WriterRollup(UUID.randomUUID(), new RollupPartial(firstHour, 5.0, 15.0, 20.0, 2)))));
+
+        // When
+        List<PriceRollup> rollups = priceHistoryService.getRollups(1L, PriceRollup.Resolution.HOUR, from, to).join();
+
+        // Then
+        assertEquals(2, rollups.size());
+        assertEquals(secondHour, rollups.get(0).getPeriodStart());
+        PriceRollup first = rollups.get(1);
+        assertEquals(5.0, first.getMinPrice());
+        assertEquals(15.0, first.getMaxPrice());
+        assertEquals(9.5, first.getAvgPrice());
+        assertEquals(4L, first.getSampleCount());
+    }
+
+    @Test
+    void flushOnShutdown_ShouldWaitForPendingRollupWrites() {
+        // Given
+        CompletableFuture<AsyncResultSet> write = new CompletableFuture<>();
+        when(priceHistoryRepository.saveChangeAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(priceHistoryRepository.saveRollupAsync(eq(1L), any(), any(), any(), any())).thenReturn(write);
+        priceHistoryService.onProductChanged(priceChange(1L));
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> write.complete(null));
+
+        // When
+        priceHistoryService.flushOnShutdown();
+
+        // Then
+        assertTrue(write.isDone());
+        verify(priceHistoryRepository, times(PriceRollup.Resolution.values().length))
+                .saveRollupAsync(eq(1L), any(), any(), any(), any());
+    }
+
+    @Test
+    void flushOnShutdown_WhenCassandraNeverAnswers_ShouldGiveUpAfterTimeout() {
+        // Given
+        when(priceHistoryRepository.saveChangeAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(priceHistoryRepository.saveRollupAsync(eq(1L), any(), any(), any(), any()))
+                .thenReturn(new CompletableFuture<>());
+        priceHistoryService.onProductChanged(priceChange(1L));
+
+        // When
+        long startNanos = System.nanoTime();
+        priceHistoryService.flushOnShutdown();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // Then
+        assertTrue(elapsedMillis >= 200 && elapsedMillis < 5_000, () -> "returned after " + elapsedMillis + "ms");
+    }
+
+    private static ProductChangedEvent priceChange(Long productId) {
+        Currency usd = Currency.getInstance("USD");
+        ProductResponse product = ProductResponse.builder()
+                .id(productId).name("Product").price(Money.ofMinor(1299, usd)).version(2L).build();
+        return new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product, Money.ofMinor(999, usd));
+    }
+
+    @Test
+    void onProductChanged_ShouldIgnoreUpdatesThatKeepThePrice() {
+        // Given
+        Money price = Money.ofMinor(9999, Currency.getInstance("USD"));
+        ProductResponse product = ProductResponse.builder().id(1L).name("Renamed").price(price).build();
+
+        // When
+        priceHistoryService.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product, price));
+
+        // Then
+        verify(priceHistoryRepository, never()).saveChangeAsync(any());
+    }
+
+    @Test
+    void onProductChanged_ShouldIgnoreUpdatesWithoutPreviousPrice() {
+        // Given
+        Money price = Money.ofMinor(9999, Currency.getInstance("USD"));
+        ProductResponse product = ProductResponse.builder().id(1L).name("Renamed").price(price).build();
+
+        // When
+        priceHistoryService.onProductChanged(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product));
+
+        // Then
+        verify(priceHistoryRepository, never()).saveChangeAsync(any());
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.springboot.service;
+
+import com.example.springboot.entity.Product;
+import com.example.springboot.entity.mongo.ProductDocument;
+import com.example.springboot.money.Money;
+import com.example.springboot.repository.ProductRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogProjectorTest {
+
+    @Mock
+    private ReactiveMongoOperations mongoOperations;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCatalogProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        projector = new ProductCatalogProjector(mongoOperations, productRepository);
+    }
+
+    @Test
+    void project_ShouldOnlyMatchOlderOrUnversionedDocuments() {
+        // Given
+        when(mongoOperations.upsert(any(Query.class), any(Update.class), eq(ProductDocument.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+        // When
+        Boolean applied = projector.project(document(4L)).block();
+
+        // Then
+        assertEquals(Boolean.TRUE, applied);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).upsert(query.capture(), any(Update.class), eq(ProductDocument.class));
+        String filter = query.getValue().getQueryObject().toJson();
+        assertTrue(filter.contains("\"$lt\": 4"), filter);
+        assertTrue(filter.contains("\"$exists\": false"), filter);
+    }
+
+    @Test
+    void project_WhenStoredDocumentIsNewer_ShouldSkip() {
+        // Given: the filter misses, so the upsert tries to insert a second document with the same _id
+        when(mongoOperations.upsert(any(Query.class), any(Update.class), eq(ProductDocument.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+
+        // When
+        Boolean applied = projector.project(document(2L)).block();
+
+        // Then
+        assertEquals(Boolean.FALSE, applied);
+    }
+
+    @Test
+    void backfillLegacyDocuments_WhenNoneLeft_ShouldNotRebuild() {
+        // Given
+        when(mongoOperations.exists(any(Query.class), eq(ProductDocument.class))).thenReturn(Mono.just(false));
+
+        // When
+        Long count = projector.backfillLegacyDocuments().block();
+
+        // Then
+        assertEquals(0L, count);
+        verifyNoInteractions(productRepository);
+        verify(mongoOperations, never()).updateMulti(any(Query.class), any(Update.class), eq(ProductDocument.class));
+    }
+
+    @Test
+    void backfillLegacyDocuments_ShouldRebuildAndTombstoneOrphans() {
+        // Given
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Laptop");
+        product.setPrice(Money.ofMinor(99_999, Currency.getInstance("USD")));
+        product.setIsActive(true);
+        product.setVersion(3L);
+        when(mongoOperations.exists(any(Query.class), eq(ProductDocument.class))).thenReturn(Mono.just(true));
+        when(productRepository.findByIsActiveTrue()).thenReturn(List.of(product));
+        when(mongoOperations.upsert(any(Query.class), any(Update.class), eq(ProductDocument.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        when(mongoOperations.updateMulti(any(Query.class), any(Update.class), eq(ProductDocument.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(2, 2L, null)));
+
+        // When
+        Long count = projector.backfillLegacyDocuments().block();
+
+        // Then
+        assertEquals(3L, count);
+        ArgumentCaptor<Update> projected = ArgumentCaptor.forClass(Update.class);
+        verify(mongoOperations).upsert(any(Query.class), projected.capture(), eq(ProductDocument.class));
+        assertTrue(projected.getValue().getUpdateObject().toJson().contains("\"$unset\": {\"price\""),
+                projected.getValue().getUpdateObject().toJson());
+        ArgumentCaptor<Query> orphans = ArgumentCaptor.forClass(Query.class);
+        verify(mongoOperations).updateMulti(orphans.capture(), any(Update.class), eq(ProductDocument.class));
+        assertTrue(orphans.getValue().getQueryObject().toJson().contains("priceMinor"));
+    }
+
+    private static ProductDocument document(long version) {
+        return ProductDocument.builder()
+                .id("1")
+                .productId(1L)
+                .name("Laptop")
+                .priceMinor(99_999L)
+                .currency("USD")
+                .isActive(true)
+                .version(version)
+                .build();
+    }
+}
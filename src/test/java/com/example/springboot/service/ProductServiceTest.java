@@ -1,9 +1,15 @@
 package com.example.springboot.service;
 
+import com.example.springboot.cache.CoalescingCache;
+import com.example.springboot.dto.ProductPatchRequest;
 import com.example.springboot.dto.ProductRequest;
 import com.example.springboot.dto.ProductResponse;
 import com.example.springboot.entity.Product;
+import com.example.springboot.event.ProductChangedEvent;
+import com.example.springboot.exception.PreconditionFailedException;
 import com.example.springboot.exception.ResourceNotFoundException;
+import com.example.springboot.exception.ValidationException;
+import com.example.springboot.money.Money;
 import com.example.springboot.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,23 +17,38 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Currency;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
 
+    private static final Currency USD = Currency.getInstance("USD");
+
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private ProductService productService;
 
@@ -40,7 +61,7 @@ class ProductServiceTest {
         testProduct.setId(1L);
         testProduct.setName("Test Product");
         testProduct.setDescription("Test Description");
-        testProduct.setPrice(99.99);
+        testProduct.setPrice(Money.of(new BigDecimal("99.99"), USD));
         testProduct.setIsActive(true);
         testProduct.setCreatedAt(LocalDateTime.now());
         testProduct.setUpdatedAt(LocalDateTime.now());
@@ -48,7 +69,7 @@ class ProductServiceTest {
         testProductRequest = new ProductRequest();
         testProductRequest.setName("Test Product");
         testProductRequest.setDescription("Test Description");
-        testProductRequest.setPrice(99.99);
+        testProductRequest.setPrice(new BigDecimal("99.99"));
     }
 
     @Test
@@ -107,6 +128,30 @@ class ProductServiceTest {
         verify(productRepository).save(any(Product.class));
     }
 
+    @Test
+    void createProduct_WithFractionOfACent_ShouldThrowValidationException() {
+        // Given
+        testProductRequest.setPrice(new BigDecimal("99.999"));
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> productService.createProduct(testProductRequest));
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    void createProduct_ShouldPublishCreatedEvent() {
+        // Given
+        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+
+        // When
+        productService.createProduct(testProductRequest);
+
+        // Then
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ProductChangedEvent changed
+                && changed.type() == ProductChangedEvent.Type.CREATED
+                && changed.product().getId().equals(testProduct.getId())));
+    }
+
     @Test
     void updateProduct_WhenProductExists_ShouldUpdateAndReturnProduct() {
         // Given
@@ -159,4 +204,60 @@ class ProductServiceTest {
         verify(productRepository).findByIdAndIsActiveTrue(1L);
         verify(productRepository, never()).save(any(Product.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getProductsByIds_ShouldQueryOnlyMissesAndKeepRequestedOrder() {
+        // Given
+        CoalescingCache cache = mock(CoalescingCache.class);
+        ProductResponse cached = ProductResponse.builder().id(2L).name("Cached Product").build();
+        when(cacheManager.getCache("product")).thenReturn(cache);
+        when(cache.get(2L, ProductResponse.class)).thenReturn(cached);
+        when(cache.loadAll(eq(List.of(1L, 3L)), any())).thenAnswer(invocation ->
+                invocation.<Function<Collection<Long>, Map<Long, ProductResponse>>>getArgument(1).apply(List.of(1L, 3L)));
+        when(productRepository.findByIdInAndIsActiveTrue(List.of(1L, 3L))).thenReturn(List.of(testProduct));
+
+        // When
+        List<ProductResponse> result = productService.getProductsByIds(List.of(2L, 1L, 3L, 2L));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+        verify(productRepository).findByIdInAndIsActiveTrue(List.of(1L, 3L));
+        verify(cache).loadAll(eq(List.of(1L, 3L)), any());
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    void patchProduct_WithIfMatchAndOnlyPrice_ShouldUpdateWithoutReading() {
+        // Given
+        Money oldPrice = testProduct.getPrice();
+        Money newPrice = Money.of(new BigDecimal("89.99"), USD);
+        testProduct.setPrice(newPrice);
+        testProduct.setVersion(4L);
+        when(productRepository.updatePriceIfVersionMatches(eq(1L), eq(3L), eq(newPrice), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new ProductRepository.PriceUpdate(testProduct, oldPrice)));
+
+        // When
+        ProductResponse result = productService.patchProduct(
+                1L, new ProductPatchRequest(null, null, new BigDecimal("89.99"), null), 3L);
+
+        // Then
+        assertEquals(8999L, result.getPrice().amountMinor());
+        assertEquals(4L, result.getVersion());
+        verify(productRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ProductChangedEvent changed
+                && oldPrice.equals(changed.previousPrice()) && changed.priceChanged()));
+    }
+
+    @Test
+    void updateProduct_WhenVersionDoesNotMatch_ShouldThrowPreconditionFailed() {
+        // Given
+        testProduct.setVersion(5L);
+        when(productRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(testProduct));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(1L, testProductRequest, 3L));
+        verify(productRepository, never()).save(any(Product.class));
+    }
+}
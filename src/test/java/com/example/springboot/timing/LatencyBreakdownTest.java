@@ -0,0 +1,88 @@
+package com.example.springboot.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyBreakdownTest {
+
+    private final LatencyBreakdown breakdown = new LatencyBreakdown();
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.finish();
+        }
+    }
+
+    @Test
+    void snapshot_ShouldReportEveryStageInDeclarationOrder() {
+        // When
+        Map<String, LatencyBreakdown.StageSummary> snapshot = breakdown.snapshot();
+
+        // Then
+        assertArrayEquals(new String[]{"filters", "auth", "user", "service", "cache", "db", "ser", "total"},
+                snapshot.keySet().toArray());
+        assertEquals(Stage.DB.description(), snapshot.get("db").description());
+        assertEquals(0, snapshot.get("db").count());
+    }
+
+    @Test
+    void record_ShouldSkipStagesTheRequestNeverEntered() {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+        timings.stopSinceRequestStart(Stage.AUTH);
+        timings.finish();
+
+        // When
+        breakdown.record(timings);
+        Map<String, LatencyBreakdown.StageSummary> snapshot = breakdown.snapshot();
+
+        // Then
+        assertEquals(1, snapshot.get("auth").count());
+        assertEquals(1, snapshot.get("total").count());
+        assertEquals(0, snapshot.get("db").count());
+    }
+
+    @Test
+    void snapshot_ShouldAccumulateAcrossIntervals() {
+        // Given
+        record(3);
+        breakdown.snapshot();
+        record(2);
+
+        // When
+        LatencyBreakdown.StageSummary total = breakdown.snapshot().get("total");
+
+        // Then
+        assertEquals(5, total.count());
+        assertTrue(total.maxMicros() >= total.p50Micros());
+        assertTrue(total.p50Micros() >= 1, "sub-microsecond stages are recorded as 1us");
+    }
+
+    @Test
+    void reset_ShouldClearRecordedAndPendingValues() {
+        // Given
+        record(2);
+        breakdown.snapshot();
+        record(1);
+
+        // When
+        breakdown.reset();
+
+        // Then
+        assertEquals(0, breakdown.snapshot().get("total").count());
+    }
+
+    private void record(int requests) {
+        for (int i = 0; i < requests; i++) {
+            RequestTimings timings = RequestTimings.begin();
+            timings.finish();
+            breakdown.record(timings);
+        }
+    }
+}
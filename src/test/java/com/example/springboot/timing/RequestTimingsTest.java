@@ -0,0 +1,132 @@
+package com.example.springboot.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.finish();
+        }
+    }
+
+    @Test
+    void start_OutsideTimedRequest_ShouldBeNoOp() {
+        // When
+        long checkpoint = RequestTimings.start();
+        RequestTimings.stop(Stage.DB, checkpoint);
+
+        // Then
+        assertEquals(0, checkpoint);
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    void stop_ShouldAccumulateRepeatedStages() throws Exception {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            long checkpoint = RequestTimings.start();
+            Thread.sleep(2);
+            RequestTimings.stop(Stage.DB, checkpoint);
+        }
+
+        // Then
+        assertSame(timings, RequestTimings.current());
+        assertTrue(timings.nanos(Stage.DB) >= 4_000_000, () -> "db nanos " + timings.nanos(Stage.DB));
+        assertEquals(0, timings.nanos(Stage.CACHE));
+    }
+
+    @Test
+    void finish_ShouldRecordTotalAndStopTiming() {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+        long checkpoint = RequestTimings.start();
+
+        // When
+        timings.finish();
+        RequestTimings.stop(Stage.DB, checkpoint);
+
+        // Then
+        assertNull(RequestTimings.current());
+        assertTrue(timings.nanos(Stage.TOTAL) > 0);
+        assertEquals(0, timings.nanos(Stage.DB));
+    }
+
+    @Test
+    void begin_ShouldClearStagesFromPreviousRequestOnSameThread() {
+        // Given
+        RequestTimings first = RequestTimings.begin();
+        RequestTimings.stop(Stage.CACHE, RequestTimings.start());
+        first.stopSinceRequestStart(Stage.FILTERS);
+        first.finish();
+
+        // When
+        RequestTimings second = RequestTimings.begin();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(0, second.nanos(Stage.CACHE));
+        assertEquals(0, second.nanos(Stage.FILTERS));
+        assertEquals(0, second.nanos(Stage.TOTAL));
+    }
+
+    @Test
+    void handler_ShouldSplitIntoServiceAndSerializationAtBodyWrite() throws Exception {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimingInterceptor interceptor = new RequestTimingInterceptor();
+        ServerTimingResponseAdvice advice = new ServerTimingResponseAdvice();
+
+        // When
+        interceptor.preHandle(null, null, null);
+        Thread.sleep(3);
+        advice.beforeBodyWrite("body", null, null, null, null, null);
+        advice.beforeBodyWrite("body", null, null, null, null, null);
+        Thread.sleep(2);
+        interceptor.afterCompletion(null, null, null, null);
+
+        // Then
+        assertTrue(timings.nanos(Stage.SERVICE) >= 3_000_000, () -> "service nanos " + timings.nanos(Stage.SERVICE));
+        assertTrue(timings.nanos(Stage.SERIALIZATION) >= 2_000_000);
+        assertTrue(timings.nanos(Stage.FILTERS) > 0);
+    }
+
+    @Test
+    void handler_WithoutBodyWrite_ShouldCountAsServiceOnly() throws Exception {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimingInterceptor interceptor = new RequestTimingInterceptor();
+
+        // When
+        interceptor.preHandle(null, null, null);
+        Thread.sleep(2);
+        interceptor.afterCompletion(null, null, null, null);
+        interceptor.afterCompletion(null, null, null, null);
+
+        // Then
+        long service = timings.nanos(Stage.SERVICE);
+        assertTrue(service >= 2_000_000, () -> "service nanos " + service);
+        assertEquals(0, timings.nanos(Stage.SERIALIZATION));
+    }
+
+    @Test
+    void toServerTiming_ShouldListOnlyRecordedStagesInMillis() {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+        timings.stopSinceRequestStart(Stage.AUTH);
+
+        // When
+        String header = timings.toServerTiming();
+
+        // Then
+        assertTrue(header.matches("auth;dur=\\d+\\.\\d+, total;dur=\\d+\\.\\d+"), header);
+    }
+}